@@ -0,0 +1,146 @@
+package org.jusecase.inject.agent;
+
+import org.objectweb.asm.*;
+import org.objectweb.asm.commons.AdviceAdapter;
+import org.objectweb.asm.commons.Method;
+
+import java.lang.instrument.ClassFileTransformer;
+import java.security.ProtectionDomain;
+
+class ComponentTransformer implements ClassFileTransformer {
+    static final String COMPONENT = "Lorg/jusecase/inject/Component;";
+    static final String ASPECT = "org/jusecase/inject/InjectorAspect";
+    static final String COMPONENT_INJECTOR = "org/jusecase/inject/ComponentInjector";
+    static final String COMPONENT_INJECTOR_FIELD = "$$componentInjector";
+
+    private static final System.Logger logger = System.getLogger(InjectorAgent.class.getName());
+
+    @Override
+    public byte[] transform(ClassLoader loader, String className, Class<?> classBeingRedefined, ProtectionDomain protectionDomain, byte[] classfileBuffer) {
+        if (className == null || classfileBuffer == null || classBeingRedefined != null) {
+            return null; // Redefined classes must not get new fields
+        }
+
+        try {
+            return transform(classfileBuffer);
+        } catch (Throwable e) {
+            // Exceptions thrown here are silently dropped by the JVM, the class is then loaded without injection
+            logger.log(System.Logger.Level.ERROR, "Failed to instrument component " + className.replace('/', '.') + ", its fields will not be injected.", e);
+            return null;
+        }
+    }
+
+    byte[] transform(byte[] classfileBuffer) {
+        ClassReader reader = new ClassReader(classfileBuffer);
+        if ((reader.getAccess() & (Opcodes.ACC_INTERFACE | Opcodes.ACC_ANNOTATION | Opcodes.ACC_ENUM)) != 0) {
+            return null;
+        }
+
+        ComponentScanner scanner = new ComponentScanner();
+        reader.accept(scanner, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        if (!scanner.component) {
+            return null;
+        }
+
+        // Classes woven by AspectJ at compile time are already injected by InjectorAspect
+        reader.accept(scanner, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        if (scanner.woven) {
+            return null;
+        }
+
+        ClassWriter writer = new ClassWriter(reader, ClassWriter.COMPUTE_MAXS);
+        reader.accept(new ComponentInstrumenter(writer, reader.getClassName()), 0);
+        return writer.toByteArray();
+    }
+
+    private static class ComponentScanner extends ClassVisitor {
+        boolean component;
+        boolean woven;
+
+        ComponentScanner() {
+            super(Opcodes.ASM9);
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+            if (visible && COMPONENT.equals(descriptor)) {
+                component = true;
+            }
+            return null;
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+            return new MethodVisitor(Opcodes.ASM9) {
+                @Override
+                public void visitMethodInsn(int opcode, String owner, String name, String descriptor, boolean isInterface) {
+                    if (ASPECT.equals(owner)) {
+                        woven = true;
+                    }
+                }
+            };
+        }
+    }
+
+    private static class ComponentInstrumenter extends ClassVisitor {
+        private static final Type COMPONENT_INJECTOR_TYPE = Type.getObjectType(COMPONENT_INJECTOR);
+
+        private final Type type;
+        private boolean staticInitializer;
+
+        ComponentInstrumenter(ClassVisitor classVisitor, String className) {
+            super(Opcodes.ASM9, classVisitor);
+            this.type = Type.getObjectType(className);
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+            MethodVisitor methodVisitor = super.visitMethod(access, name, descriptor, signature, exceptions);
+            if ("<clinit>".equals(name)) {
+                staticInitializer = true;
+                return new AdviceAdapter(Opcodes.ASM9, methodVisitor, access, name, descriptor) {
+                    @Override
+                    protected void onMethodEnter() {
+                        initializeComponentInjector(this);
+                    }
+                };
+            }
+            if (!"<init>".equals(name) || (access & Opcodes.ACC_PUBLIC) == 0) {
+                return methodVisitor;
+            }
+
+            // Same join point as InjectorAspect: every public constructor, after the super() or this() call
+            return new AdviceAdapter(Opcodes.ASM9, methodVisitor, access, name, descriptor) {
+                @Override
+                protected void onMethodEnter() {
+                    getStatic(type, COMPONENT_INJECTOR_FIELD, COMPONENT_INJECTOR_TYPE);
+                    loadThis();
+                    invokeVirtual(COMPONENT_INJECTOR_TYPE, new Method("inject", "(Ljava/lang/Object;)V"));
+                }
+            };
+        }
+
+        @Override
+        public void visitEnd() {
+            // One injector per class in a static final field, the constructors call it directly
+            super.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_STATIC | Opcodes.ACC_FINAL | Opcodes.ACC_SYNTHETIC, COMPONENT_INJECTOR_FIELD, COMPONENT_INJECTOR_TYPE.getDescriptor(), null, null).visitEnd();
+
+            if (!staticInitializer) {
+                MethodVisitor methodVisitor = super.visitMethod(Opcodes.ACC_STATIC, "<clinit>", "()V", null, null);
+                methodVisitor.visitCode();
+                initializeComponentInjector(methodVisitor);
+                methodVisitor.visitInsn(Opcodes.RETURN);
+                methodVisitor.visitMaxs(0, 0);
+                methodVisitor.visitEnd();
+            }
+
+            super.visitEnd();
+        }
+
+        private void initializeComponentInjector(MethodVisitor methodVisitor) {
+            methodVisitor.visitLdcInsn(type);
+            methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, COMPONENT_INJECTOR, "of", "(Ljava/lang/Class;)L" + COMPONENT_INJECTOR + ";", false);
+            methodVisitor.visitFieldInsn(Opcodes.PUTSTATIC, type.getInternalName(), COMPONENT_INJECTOR_FIELD, COMPONENT_INJECTOR_TYPE.getDescriptor());
+        }
+    }
+}
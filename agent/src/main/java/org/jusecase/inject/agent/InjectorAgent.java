@@ -0,0 +1,14 @@
+package org.jusecase.inject.agent;
+
+import java.lang.instrument.Instrumentation;
+
+public class InjectorAgent {
+
+    public static void premain(String arguments, Instrumentation instrumentation) {
+        instrumentation.addTransformer(new ComponentTransformer());
+    }
+
+    public static void agentmain(String arguments, Instrumentation instrumentation) {
+        premain(arguments, instrumentation);
+    }
+}
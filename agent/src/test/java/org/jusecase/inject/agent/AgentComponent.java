@@ -0,0 +1,33 @@
+package org.jusecase.inject.agent;
+
+import org.jusecase.inject.Component;
+
+import javax.inject.Inject;
+
+@Component
+public class AgentComponent {
+    @Inject
+    private Dependency dependency;
+
+    private final Dependency dependencyInConstructor;
+
+    public AgentComponent() {
+        dependencyInConstructor = dependency;
+    }
+
+    public AgentComponent(String name) {
+        this();
+    }
+
+    AgentComponent(int count) {
+        dependencyInConstructor = dependency;
+    }
+
+    public Dependency getDependency() {
+        return dependency;
+    }
+
+    public Dependency getDependencyInConstructor() {
+        return dependencyInConstructor;
+    }
+}
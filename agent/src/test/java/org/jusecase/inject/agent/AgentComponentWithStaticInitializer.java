@@ -0,0 +1,17 @@
+package org.jusecase.inject.agent;
+
+import org.jusecase.inject.Component;
+
+import javax.inject.Inject;
+
+@Component
+public class AgentComponentWithStaticInitializer {
+    public static final AgentComponentWithStaticInitializer DEFAULT = new AgentComponentWithStaticInitializer();
+
+    @Inject
+    private Dependency dependency;
+
+    public Dependency getDependency() {
+        return dependency;
+    }
+}
@@ -0,0 +1,138 @@
+package org.jusecase.inject.agent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.jusecase.inject.ComponentInjector;
+import org.jusecase.inject.Injector;
+
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ComponentTransformerTest {
+    private final ComponentTransformer transformer = new ComponentTransformer();
+    private final Dependency dependency = new Dependency();
+
+    @BeforeEach
+    void setUp() {
+        Injector.getInstance().add(dependency);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Injector.getInstance().reset();
+    }
+
+    @Test
+    void notInstrumented() throws Exception {
+        assertThat(new AgentComponent().getDependency()).isNull();
+    }
+
+    @Test
+    void publicConstructor() throws Exception {
+        Class<?> componentClass = instrument(AgentComponent.class);
+
+        Object component = componentClass.getConstructor().newInstance();
+
+        assertThat(componentClass.getMethod("getDependency").invoke(component)).isSameAs(dependency);
+        assertThat(componentClass.getMethod("getDependencyInConstructor").invoke(component)).isSameAs(dependency);
+    }
+
+    @Test
+    void delegatingConstructor() throws Exception {
+        Class<?> componentClass = instrument(AgentComponent.class);
+
+        Object component = componentClass.getConstructor(String.class).newInstance("name");
+
+        assertThat(componentClass.getMethod("getDependency").invoke(component)).isSameAs(dependency);
+    }
+
+    @Test
+    void staticInitializer() throws Exception {
+        Class<?> componentClass = instrument(AgentComponentWithStaticInitializer.class);
+
+        Object component = componentClass.getField("DEFAULT").get(null);
+
+        assertThat(componentClass.getMethod("getDependency").invoke(component)).isSameAs(dependency);
+        assertThat(componentClass.getDeclaredField(ComponentTransformer.COMPONENT_INJECTOR_FIELD).getType()).isEqualTo(ComponentInjector.class);
+    }
+
+    @Test
+    void redefinedClass() throws Exception {
+        assertThat(transformer.transform(getClass().getClassLoader(), "org/jusecase/inject/agent/AgentComponent", AgentComponent.class, null, readClass(AgentComponent.class))).isNull();
+    }
+
+    @Test
+    void nonPublicConstructor() throws Exception {
+        Class<?> componentClass = instrument(AgentComponent.class);
+
+        Object component = newInstance(componentClass, 1);
+
+        assertThat(componentClass.getMethod("getDependency").invoke(component)).isNull();
+    }
+
+    @Test
+    void plainClass() throws Exception {
+        assertThat(transformer.transform(getClass().getClassLoader(), "org/jusecase/inject/agent/PlainClass", null, null, readClass(PlainClass.class))).isNull();
+    }
+
+    @Test
+    void wovenClass() throws Exception {
+        assertThat(transformer.transform(getClass().getClassLoader(), "org/jusecase/inject/agent/WovenComponent", null, null, readClass(WovenComponent.class))).isNull();
+    }
+
+    @Test
+    void invalidClass() {
+        assertThat(transformer.transform(getClass().getClassLoader(), "Invalid", null, null, new byte[]{1, 2, 3})).isNull();
+    }
+
+    private Class<?> instrument(Class<?> clazz) throws Exception {
+        byte[] bytes = transformer.transform(getClass().getClassLoader(), clazz.getName().replace('.', '/'), null, null, readClass(clazz));
+        assertThat(bytes).isNotNull();
+        return new InstrumentedClassLoader(clazz.getName(), bytes).loadClass(clazz.getName());
+    }
+
+    private Object newInstance(Class<?> clazz, int count) throws Exception {
+        Constructor<?> constructor = clazz.getDeclaredConstructor(int.class);
+        constructor.setAccessible(true);
+        try {
+            return constructor.newInstance(count);
+        } catch (InvocationTargetException e) {
+            throw (Exception) e.getCause();
+        }
+    }
+
+    private byte[] readClass(Class<?> clazz) throws Exception {
+        try (InputStream inputStream = clazz.getResourceAsStream(clazz.getSimpleName() + ".class")) {
+            return inputStream.readAllBytes();
+        }
+    }
+
+    private class InstrumentedClassLoader extends ClassLoader {
+        private final String className;
+        private final byte[] bytes;
+
+        InstrumentedClassLoader(String className, byte[] bytes) {
+            super(ComponentTransformerTest.class.getClassLoader());
+            this.className = className;
+            this.bytes = bytes;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (name.equals(className)) {
+                synchronized (getClassLoadingLock(name)) {
+                    Class<?> clazz = findLoadedClass(name);
+                    if (clazz == null) {
+                        clazz = defineClass(name, bytes, 0, bytes.length);
+                    }
+                    return clazz;
+                }
+            }
+            return super.loadClass(name, resolve);
+        }
+    }
+}
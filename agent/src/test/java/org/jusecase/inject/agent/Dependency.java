@@ -0,0 +1,4 @@
+package org.jusecase.inject.agent;
+
+public class Dependency {
+}
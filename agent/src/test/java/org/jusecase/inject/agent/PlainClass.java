@@ -0,0 +1,8 @@
+package org.jusecase.inject.agent;
+
+import javax.inject.Inject;
+
+public class PlainClass {
+    @Inject
+    Dependency dependency;
+}
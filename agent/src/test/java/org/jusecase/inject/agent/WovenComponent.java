@@ -0,0 +1,11 @@
+package org.jusecase.inject.agent;
+
+import org.jusecase.inject.Component;
+import org.jusecase.inject.InjectorAspect;
+
+@Component
+public class WovenComponent {
+    static Object woven() {
+        return InjectorAspect.aspectOf(); // Stands in for the advice call of a class woven by AspectJ
+    }
+}
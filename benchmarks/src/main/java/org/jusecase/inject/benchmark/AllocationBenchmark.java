@@ -0,0 +1,38 @@
+package org.jusecase.inject.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Run with -prof gc. The normalized allocation rate (gc.alloc.rate.norm) of a component
+ * must be the same as for its hand wired counterpart, the injector itself does not allocate.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AllocationBenchmark {
+
+    @Benchmark
+    public Object component1(InjectorState state) {
+        return new Component1();
+    }
+
+    @Benchmark
+    public Object handWired1(InjectorState state) {
+        return new HandWired1(state.dependency);
+    }
+
+    @Benchmark
+    public Object component5(InjectorState state) {
+        return new Component5();
+    }
+
+    @Benchmark
+    public Object handWired5(InjectorState state) {
+        Dependency dependency = state.dependency;
+        return new HandWired5(dependency, dependency, dependency, dependency, dependency);
+    }
+}
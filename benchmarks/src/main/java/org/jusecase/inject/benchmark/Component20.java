@@ -0,0 +1,49 @@
+package org.jusecase.inject.benchmark;
+
+import org.jusecase.inject.Component;
+
+import javax.inject.Inject;
+
+@Component
+public class Component20 {
+    @Inject
+    private Dependency dependency1;
+    @Inject
+    private Dependency dependency2;
+    @Inject
+    private Dependency dependency3;
+    @Inject
+    private Dependency dependency4;
+    @Inject
+    private Dependency dependency5;
+    @Inject
+    private Dependency dependency6;
+    @Inject
+    private Dependency dependency7;
+    @Inject
+    private Dependency dependency8;
+    @Inject
+    private Dependency dependency9;
+    @Inject
+    private Dependency dependency10;
+    @Inject
+    private Dependency dependency11;
+    @Inject
+    private Dependency dependency12;
+    @Inject
+    private Dependency dependency13;
+    @Inject
+    private Dependency dependency14;
+    @Inject
+    private Dependency dependency15;
+    @Inject
+    private Dependency dependency16;
+    @Inject
+    private Dependency dependency17;
+    @Inject
+    private Dependency dependency18;
+    @Inject
+    private Dependency dependency19;
+    @Inject
+    private Dependency dependency20;
+}
@@ -0,0 +1,19 @@
+package org.jusecase.inject.benchmark;
+
+import org.jusecase.inject.Component;
+
+import javax.inject.Inject;
+
+@Component
+public class Component5 {
+    @Inject
+    private Dependency dependency1;
+    @Inject
+    private Dependency dependency2;
+    @Inject
+    private Dependency dependency3;
+    @Inject
+    private Dependency dependency4;
+    @Inject
+    private Dependency dependency5;
+}
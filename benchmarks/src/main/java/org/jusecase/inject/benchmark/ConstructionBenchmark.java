@@ -0,0 +1,60 @@
+package org.jusecase.inject.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConstructionBenchmark {
+
+    @Benchmark
+    public Object component1(InjectorState state) {
+        return new Component1();
+    }
+
+    @Benchmark
+    public Object component5(InjectorState state) {
+        return new Component5();
+    }
+
+    @Benchmark
+    public Object component20(InjectorState state) {
+        return new Component20();
+    }
+
+    @Benchmark
+    public Object handWired1(InjectorState state) {
+        return new HandWired1(state.dependency);
+    }
+
+    @Benchmark
+    public Object handWired5(InjectorState state) {
+        Dependency dependency = state.dependency;
+        return new HandWired5(dependency, dependency, dependency, dependency, dependency);
+    }
+
+    @Benchmark
+    public Object handWired20(InjectorState state) {
+        Dependency dependency = state.dependency;
+        return new HandWired20(dependency, dependency, dependency, dependency, dependency, dependency, dependency, dependency, dependency, dependency, dependency, dependency, dependency, dependency, dependency, dependency, dependency, dependency, dependency, dependency);
+    }
+
+    @Benchmark
+    public Object named(InjectorState state) {
+        return new NamedComponent();
+    }
+
+    @Benchmark
+    public Object provider(InjectorState state) {
+        return new ProviderComponent();
+    }
+
+    @Benchmark
+    public Object perClassProvider(InjectorState state) {
+        return new LoggerComponent();
+    }
+}
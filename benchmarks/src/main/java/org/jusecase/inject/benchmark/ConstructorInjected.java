@@ -0,0 +1,14 @@
+package org.jusecase.inject.benchmark;
+
+import javax.inject.Inject;
+
+public class ConstructorInjected {
+    private final Dependency dependency;
+    private final Service service;
+
+    @Inject
+    public ConstructorInjected(Dependency dependency, Service service) {
+        this.dependency = dependency;
+        this.service = service;
+    }
+}
@@ -0,0 +1,9 @@
+package org.jusecase.inject.benchmark;
+
+public class HandWired1 {
+    private final Dependency dependency1;
+
+    public HandWired1(Dependency dependency1) {
+        this.dependency1 = dependency1;
+    }
+}
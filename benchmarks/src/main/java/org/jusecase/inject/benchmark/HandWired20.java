@@ -0,0 +1,47 @@
+package org.jusecase.inject.benchmark;
+
+public class HandWired20 {
+    private final Dependency dependency1;
+    private final Dependency dependency2;
+    private final Dependency dependency3;
+    private final Dependency dependency4;
+    private final Dependency dependency5;
+    private final Dependency dependency6;
+    private final Dependency dependency7;
+    private final Dependency dependency8;
+    private final Dependency dependency9;
+    private final Dependency dependency10;
+    private final Dependency dependency11;
+    private final Dependency dependency12;
+    private final Dependency dependency13;
+    private final Dependency dependency14;
+    private final Dependency dependency15;
+    private final Dependency dependency16;
+    private final Dependency dependency17;
+    private final Dependency dependency18;
+    private final Dependency dependency19;
+    private final Dependency dependency20;
+
+    public HandWired20(Dependency dependency1, Dependency dependency2, Dependency dependency3, Dependency dependency4, Dependency dependency5, Dependency dependency6, Dependency dependency7, Dependency dependency8, Dependency dependency9, Dependency dependency10, Dependency dependency11, Dependency dependency12, Dependency dependency13, Dependency dependency14, Dependency dependency15, Dependency dependency16, Dependency dependency17, Dependency dependency18, Dependency dependency19, Dependency dependency20) {
+        this.dependency1 = dependency1;
+        this.dependency2 = dependency2;
+        this.dependency3 = dependency3;
+        this.dependency4 = dependency4;
+        this.dependency5 = dependency5;
+        this.dependency6 = dependency6;
+        this.dependency7 = dependency7;
+        this.dependency8 = dependency8;
+        this.dependency9 = dependency9;
+        this.dependency10 = dependency10;
+        this.dependency11 = dependency11;
+        this.dependency12 = dependency12;
+        this.dependency13 = dependency13;
+        this.dependency14 = dependency14;
+        this.dependency15 = dependency15;
+        this.dependency16 = dependency16;
+        this.dependency17 = dependency17;
+        this.dependency18 = dependency18;
+        this.dependency19 = dependency19;
+        this.dependency20 = dependency20;
+    }
+}
@@ -0,0 +1,17 @@
+package org.jusecase.inject.benchmark;
+
+public class HandWired5 {
+    private final Dependency dependency1;
+    private final Dependency dependency2;
+    private final Dependency dependency3;
+    private final Dependency dependency4;
+    private final Dependency dependency5;
+
+    public HandWired5(Dependency dependency1, Dependency dependency2, Dependency dependency3, Dependency dependency4, Dependency dependency5) {
+        this.dependency1 = dependency1;
+        this.dependency2 = dependency2;
+        this.dependency3 = dependency3;
+        this.dependency4 = dependency4;
+        this.dependency5 = dependency5;
+    }
+}
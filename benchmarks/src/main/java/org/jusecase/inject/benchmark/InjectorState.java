@@ -0,0 +1,36 @@
+package org.jusecase.inject.benchmark;
+
+import org.jusecase.inject.Injector;
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Benchmark)
+public class InjectorState {
+    @Param({"false", "true"})
+    public boolean sealed;
+
+    public Injector injector;
+    public Dependency dependency;
+
+    @Setup
+    public void setUp() {
+        injector = Injector.getInstance();
+        injector.reset();
+
+        dependency = new Dependency();
+        injector.add(dependency);
+        injector.add(new ServiceImpl());
+        injector.add("host", "localhost");
+        injector.add("user", "root");
+        injector.addProvider(new ProvidedDependencyProvider());
+        injector.addProvider(new LoggerProvider());
+
+        if (sealed) {
+            injector.seal();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        injector.reset();
+    }
+}
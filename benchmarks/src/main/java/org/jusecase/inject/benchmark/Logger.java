@@ -0,0 +1,13 @@
+package org.jusecase.inject.benchmark;
+
+public class Logger {
+    private final Class<?> clazz;
+
+    public Logger(Class<?> clazz) {
+        this.clazz = clazz;
+    }
+
+    public Class<?> getClazz() {
+        return clazz;
+    }
+}
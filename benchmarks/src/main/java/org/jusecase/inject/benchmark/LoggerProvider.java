@@ -0,0 +1,10 @@
+package org.jusecase.inject.benchmark;
+
+import org.jusecase.inject.PerClassProvider;
+
+public class LoggerProvider implements PerClassProvider<Logger> {
+    @Override
+    public Logger get(Class<?> classToInject) {
+        return new Logger(classToInject);
+    }
+}
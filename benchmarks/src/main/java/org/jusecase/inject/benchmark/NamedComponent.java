@@ -0,0 +1,16 @@
+package org.jusecase.inject.benchmark;
+
+import org.jusecase.inject.Component;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+@Component
+public class NamedComponent {
+    @Inject
+    @Named("host")
+    private String host;
+    @Inject
+    @Named("user")
+    private String user;
+}
@@ -0,0 +1,10 @@
+package org.jusecase.inject.benchmark;
+
+import javax.inject.Provider;
+
+public class ProvidedDependencyProvider implements Provider<ProvidedDependency> {
+    @Override
+    public ProvidedDependency get() {
+        return new ProvidedDependency();
+    }
+}
@@ -0,0 +1,11 @@
+package org.jusecase.inject.benchmark;
+
+import org.jusecase.inject.Component;
+
+import javax.inject.Inject;
+
+@Component
+public class ProviderComponent {
+    @Inject
+    private ProvidedDependency providedDependency;
+}
@@ -0,0 +1,41 @@
+package org.jusecase.inject.benchmark;
+
+import org.jusecase.inject.Injector;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RegistrationBenchmark {
+    private Injector injector;
+
+    @Setup
+    public void setUp() {
+        injector = new Injector();
+        injector.add(new Dependency());
+        injector.add(new ServiceImpl());
+    }
+
+    @Benchmark
+    public Injector addInstance() {
+        injector.add(new ServiceImpl());
+        return injector;
+    }
+
+    @Benchmark
+    public Injector addClass() {
+        injector.add(Dependency.class);
+        return injector;
+    }
+
+    @Benchmark
+    public Injector addClassWithConstructorInjection() {
+        injector.add(ConstructorInjected.class);
+        return injector;
+    }
+}
@@ -0,0 +1,38 @@
+package org.jusecase.inject.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResolveBenchmark {
+
+    @Benchmark
+    public Object direct(InjectorState state) {
+        return state.injector.resolve(Dependency.class);
+    }
+
+    @Benchmark
+    public Object byInterface(InjectorState state) {
+        return state.injector.resolve(Service.class);
+    }
+
+    @Benchmark
+    public Object provider(InjectorState state) {
+        return state.injector.resolve(ProvidedDependency.class);
+    }
+
+    @Benchmark
+    public Object providerItself(InjectorState state) {
+        return state.injector.resolve(ProvidedDependencyProvider.class);
+    }
+
+    @Benchmark
+    public Object perClassProvider(InjectorState state) {
+        return state.injector.resolve(LoggerProvider.class).get(LoggerComponent.class);
+    }
+}
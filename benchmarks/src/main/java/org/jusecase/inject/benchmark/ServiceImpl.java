@@ -0,0 +1,4 @@
+package org.jusecase.inject.benchmark;
+
+public class ServiceImpl implements Service {
+}
@@ -0,0 +1,232 @@
+package org.jusecase.inject.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+@SupportedAnnotationTypes({InjectorProcessor.COMPONENT, InjectorProcessor.INJECT})
+public class InjectorProcessor extends AbstractProcessor {
+    static final String COMPONENT = "org.jusecase.inject.Component";
+    static final String INJECT = "javax.inject.Inject";
+    static final String SUFFIX = "$$Injector";
+    static final String COMPONENT_INDEX = "META-INF/jusecase-inject/components";
+
+    private final Set<String> generated = new HashSet<>();
+    private final Set<String> components = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeComponentIndex();
+            return false;
+        }
+
+        Set<TypeElement> types = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element instanceof TypeElement) {
+                    types.add((TypeElement) element);
+                    components.add(processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString());
+                } else if (element.getEnclosingElement() instanceof TypeElement) {
+                    types.add((TypeElement) element.getEnclosingElement());
+                }
+            }
+        }
+
+        for (TypeElement type : types) {
+            if (generated.add(type.getQualifiedName().toString())) {
+                process(type);
+            }
+        }
+
+        return false;
+    }
+
+    private void process(TypeElement type) {
+        if (type.getKind() != ElementKind.CLASS || !isAccessible(type)) {
+            return;
+        }
+
+        List<VariableElement> fields = getInjectableFields(type);
+        List<? extends VariableElement> constructorParameters = getConstructorParameters(type);
+        if (fields.isEmpty() && constructorParameters == null) {
+            return;
+        }
+
+        try {
+            write(type, fields, constructorParameters);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to generate injector: " + e.getMessage(), type);
+        }
+    }
+
+    private void writeComponentIndex() {
+        if (components.isEmpty()) {
+            return;
+        }
+
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", COMPONENT_INDEX);
+            try (Writer writer = file.openWriter()) {
+                for (String component : components) {
+                    writer.write(component);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write component index: " + e.getMessage());
+        }
+    }
+
+    private boolean isAccessible(TypeElement type) {
+        Element element = type;
+        while (element instanceof TypeElement) {
+            TypeElement typeElement = (TypeElement) element;
+            if (typeElement.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (typeElement.getNestingKind() != NestingKind.TOP_LEVEL && typeElement.getNestingKind() != NestingKind.MEMBER) {
+                return false;
+            }
+            element = typeElement.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private List<VariableElement> getInjectableFields(TypeElement type) {
+        List<VariableElement> fields = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (!isAnnotationPresent(field, INJECT)) {
+                continue;
+            }
+
+            Set<Modifier> modifiers = field.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.FINAL)) {
+                continue; // Left to the reflective injection path, which also reports invalid fields
+            }
+
+            fields.add(field);
+        }
+        return fields;
+    }
+
+    private List<? extends VariableElement> getConstructorParameters(TypeElement type) {
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return null;
+        }
+        if (type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC)) {
+            return null;
+        }
+
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(type.getEnclosedElements());
+        for (ExecutableElement constructor : constructors) {
+            if (isAnnotationPresent(constructor, INJECT)) {
+                if (constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                    return null;
+                }
+                return constructor.getParameters();
+            }
+        }
+
+        for (ExecutableElement constructor : constructors) {
+            if (constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC)) {
+                return constructor.getParameters();
+            }
+        }
+
+        return null;
+    }
+
+    private boolean isAnnotationPresent(Element element, String annotation) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().contentEquals(annotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void write(TypeElement type, List<VariableElement> fields, List<? extends VariableElement> constructorParameters) throws IOException {
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        String injectorName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)) + SUFFIX;
+        String typeName = erasure(type.asType());
+
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(packageName.isEmpty() ? injectorName : packageName + "." + injectorName, type);
+        try (Writer writer = file.openWriter()) {
+            StringBuilder source = new StringBuilder();
+            if (!packageName.isEmpty()) {
+                source.append("package ").append(packageName).append(";\n\n");
+            }
+
+            source.append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n");
+            source.append("@SuppressWarnings({\"rawtypes\", \"unchecked\"})\n");
+            source.append("public final class ").append(injectorName).append(" implements org.jusecase.inject.GeneratedInjector<").append(typeName).append("> {\n\n");
+
+            source.append("    @Override\n");
+            source.append("    public String[] getFieldNames() {\n");
+            source.append("        return new String[]{");
+            for (int i = 0; i < fields.size(); ++i) {
+                source.append(i == 0 ? "" : ", ").append('"').append(fields.get(i).getSimpleName()).append('"');
+            }
+            source.append("};\n");
+            source.append("    }\n\n");
+
+            source.append("    @Override\n");
+            source.append("    public void inject(").append(typeName).append(" instance, org.jusecase.inject.Injector injector) {\n");
+            for (int i = 0; i < fields.size(); ++i) {
+                VariableElement field = fields.get(i);
+                source.append("        instance.").append(field.getSimpleName()).append(" = (").append(erasure(field.asType())).append(") injector.resolveGeneratedField(").append(typeName).append(".class, ").append(i).append(");\n");
+            }
+            source.append("    }\n\n");
+
+            source.append("    @Override\n");
+            source.append("    public Class<?>[] getConstructorParameterTypes() {\n");
+            if (constructorParameters == null) {
+                source.append("        return null;\n");
+            } else {
+                source.append("        return new Class<?>[]{");
+                for (int i = 0; i < constructorParameters.size(); ++i) {
+                    source.append(i == 0 ? "" : ", ").append(erasure(constructorParameters.get(i).asType())).append(".class");
+                }
+                source.append("};\n");
+            }
+            source.append("    }\n");
+
+            if (constructorParameters != null) {
+                source.append("\n");
+                source.append("    @Override\n");
+                source.append("    public ").append(typeName).append(" newInstance(Object[] arguments) throws Exception {\n");
+                source.append("        return new ").append(typeName).append("(");
+                for (int i = 0; i < constructorParameters.size(); ++i) {
+                    source.append(i == 0 ? "" : ", ").append("(").append(erasure(constructorParameters.get(i).asType())).append(") arguments[").append(i).append("]");
+                }
+                source.append(");\n");
+                source.append("    }\n");
+            }
+            source.append("}\n");
+            writer.write(source.toString());
+        }
+    }
+
+    private String erasure(TypeMirror type) {
+        return processingEnv.getTypeUtils().erasure(type).toString();
+    }
+}
@@ -0,0 +1,186 @@
+package org.jusecase.inject.processor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.jusecase.inject.Component;
+import org.jusecase.inject.GeneratedInjector;
+import org.jusecase.inject.Injector;
+
+import javax.inject.Inject;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InjectorProcessorTest {
+
+    private Path sourceDirectory;
+    private Path classDirectory;
+    private final List<File> sources = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        sourceDirectory = Files.createTempDirectory("inject-processor-sources");
+        classDirectory = Files.createTempDirectory("inject-processor-classes");
+    }
+
+    @Test
+    void fieldInjection() throws Exception {
+        givenSource("test.Driver", "package test; public interface Driver {}");
+        givenSource("test.Service", "package test;\n" +
+                "@org.jusecase.inject.Component\n" +
+                "public class Service {\n" +
+                "    @javax.inject.Inject Driver driver;\n" +
+                "    @javax.inject.Inject @javax.inject.Named(\"host\") protected String host;\n" +
+                "    @javax.inject.Inject Integer port;\n" +
+                "    @javax.inject.Inject private String secret;\n" +
+                "    public Driver getDriver() { return driver; }\n" +
+                "    public String getHost() { return host; }\n" +
+                "    public Integer getPort() { return port; }\n" +
+                "}");
+
+        ClassLoader classLoader = compile();
+
+        GeneratedInjector<Object> injector = loadInjector(classLoader, "test.Service");
+        assertThat(injector.getFieldNames()).containsExactly("driver", "host", "port");
+        assertThat(injector.getConstructorParameterTypes()).isEmpty();
+
+        Object service = injector.newInstance(new Object[0]);
+        Object driver = Proxy.newProxyInstance(classLoader, new Class<?>[]{classLoader.loadClass("test.Driver")}, (proxy, method, args) -> null);
+        Injector dependencies = new Injector();
+        dependencies.add(driver);
+        dependencies.add("host", "localhost");
+        dependencies.add(8080);
+        injector.inject(service, dependencies);
+
+        assertThat(service.getClass().getMethod("getDriver").invoke(service)).isSameAs(driver);
+        assertThat(service.getClass().getMethod("getHost").invoke(service)).isEqualTo("localhost");
+        assertThat(service.getClass().getMethod("getPort").invoke(service)).isEqualTo(8080);
+    }
+
+    @Test
+    void constructorInjection() throws Exception {
+        givenSource("test.Bean", "package test;\n" +
+                "public class Bean {\n" +
+                "    private final String name;\n" +
+                "    @javax.inject.Inject Bean(String name, Integer count) throws java.io.IOException { this.name = name + count; }\n" +
+                "    public String getName() { return name; }\n" +
+                "}");
+
+        ClassLoader classLoader = compile();
+
+        GeneratedInjector<Object> injector = loadInjector(classLoader, "test.Bean");
+        assertThat(injector.getFieldNames()).isEmpty();
+        assertThat(injector.getConstructorParameterTypes()).containsExactly(String.class, Integer.class);
+
+        Object bean = injector.newInstance(new Object[]{"bean", 1});
+        assertThat(bean.getClass().getMethod("getName").invoke(bean)).isEqualTo("bean1");
+    }
+
+    @Test
+    void nestedClass() throws Exception {
+        givenSource("test.Outer", "package test;\n" +
+                "public class Outer {\n" +
+                "    @org.jusecase.inject.Component\n" +
+                "    public static class Inner {\n" +
+                "        @javax.inject.Inject String name;\n" +
+                "    }\n" +
+                "}");
+
+        ClassLoader classLoader = compile();
+
+        GeneratedInjector<Object> injector = loadInjector(classLoader, "test.Outer$Inner");
+        assertThat(injector.getFieldNames()).containsExactly("name");
+    }
+
+    @Test
+    void abstractClass() throws Exception {
+        givenSource("test.Base", "package test;\n" +
+                "public abstract class Base {\n" +
+                "    @javax.inject.Inject String name;\n" +
+                "}");
+
+        ClassLoader classLoader = compile();
+
+        GeneratedInjector<Object> injector = loadInjector(classLoader, "test.Base");
+        assertThat(injector.getFieldNames()).containsExactly("name");
+        assertThat(injector.getConstructorParameterTypes()).isNull();
+        assertThat(injector.getClass().getDeclaredMethods()).extracting(Method::getName).doesNotContain("newInstance");
+    }
+
+    @Test
+    void nothingToGenerate() throws Exception {
+        givenSource("test.Secret", "package test;\n" +
+                "public class Secret {\n" +
+                "    @javax.inject.Inject private String name;\n" +
+                "    private Secret() {}\n" +
+                "}");
+        givenSource("test.Holder", "package test;\n" +
+                "public class Holder {\n" +
+                "    @org.jusecase.inject.Component\n" +
+                "    private static class Hidden {\n" +
+                "        @javax.inject.Inject String name;\n" +
+                "    }\n" +
+                "}");
+
+        compile();
+
+        assertThat(classDirectory.resolve("test/Secret$$Injector.class")).doesNotExist();
+        assertThat(classDirectory.resolve("test/Holder$Hidden$$Injector.class")).doesNotExist();
+    }
+
+    @Test
+    void componentIndex() throws Exception {
+        givenSource("test.Service", "package test;\n" +
+                "@org.jusecase.inject.Component\n" +
+                "public class Service {\n" +
+                "    @org.jusecase.inject.Component\n" +
+                "    private static class Hidden {}\n" +
+                "}");
+        givenSource("test.Bean", "package test;\n" +
+                "public class Bean {\n" +
+                "    @javax.inject.Inject String name;\n" +
+                "}");
+
+        compile();
+
+        assertThat(Files.readAllLines(classDirectory.resolve(InjectorProcessor.COMPONENT_INDEX))).containsExactly("test.Service", "test.Service$Hidden");
+    }
+
+    private void givenSource(String className, String source) throws Exception {
+        Path file = sourceDirectory.resolve(className.replace('.', '/') + ".java");
+        Files.createDirectories(file.getParent());
+        Files.write(file, source.getBytes());
+        sources.add(file.toFile());
+    }
+
+    private ClassLoader compile() throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        String classpath = getLocation(Component.class) + File.pathSeparator + getLocation(Inject.class);
+        List<String> options = List.of("-d", classDirectory.toString(), "-classpath", classpath);
+
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, null, options, null, compiler.getStandardFileManager(null, null, null).getJavaFileObjectsFromFiles(sources));
+        task.setProcessors(List.of(new InjectorProcessor()));
+        assertThat(task.call()).isTrue();
+
+        return new URLClassLoader(new URL[]{classDirectory.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    @SuppressWarnings("unchecked")
+    private GeneratedInjector<Object> loadInjector(ClassLoader classLoader, String className) throws Exception {
+        return (GeneratedInjector<Object>) classLoader.loadClass(className + GeneratedInjector.SUFFIX).getConstructor().newInstance();
+    }
+
+    private String getLocation(Class<?> clazz) throws Exception {
+        return new File(clazz.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+    }
+}
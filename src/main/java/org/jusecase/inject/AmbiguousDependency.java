@@ -0,0 +1,30 @@
+package org.jusecase.inject;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+class AmbiguousDependency {
+    private final String typeName;
+    private final List<Object> candidates;
+
+    AmbiguousDependency(String typeName, List<Object> candidates) {
+        this.typeName = typeName;
+        this.candidates = candidates;
+    }
+
+    String getReason() {
+        return "Ambiguous dependency " + typeName + ", got " + candidates.stream().map(c -> c.getClass().getName()).collect(Collectors.toList()) + ".";
+    }
+
+    List<Object> getCandidates() {
+        return candidates;
+    }
+
+    boolean isLoadedBy(ClassLoader classLoader) {
+        return candidates.stream().anyMatch(c -> ClassLoaders.isLoadedBy(c.getClass(), classLoader));
+    }
+
+    InjectorException createException() {
+        return new InjectorException(getReason());
+    }
+}
@@ -0,0 +1,145 @@
+package org.jusecase.inject;
+
+import javax.inject.Provider;
+
+abstract class Binding {
+    static final Binding NONE = new InstanceBinding(null);
+
+    static Binding of(Object implementation, Class<?> requestedClass) {
+        if (implementation instanceof AmbiguousDependency) {
+            return new AmbiguousBinding((AmbiguousDependency) implementation);
+        }
+        if (implementation instanceof ObjectPool) {
+            return new PooledBinding((ObjectPool<?>) implementation);
+        }
+
+        Binding binding = new InstanceBinding(implementation);
+        if (implementation instanceof Provider && !Provider.class.isAssignableFrom(requestedClass)) {
+            binding = new ProviderBinding((Provider<?>) implementation, requestedClass);
+        }
+        if (implementation instanceof PerClassProvider && !PerClassProvider.class.isAssignableFrom(requestedClass)) {
+            binding = new PerClassProviderBinding((PerClassProvider<?>) implementation, requestedClass, binding);
+        }
+        return binding;
+    }
+
+    static Object get(Provider<?> provider, Class<?> requestedClass, Class<?> toBeInjectedIn, InjectorMetrics metrics) {
+        ProviderCallEvent event = new ProviderCallEvent();
+        if (metrics == null && !event.isEnabled()) {
+            return provider.get();
+        }
+
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            return provider.get();
+        } finally {
+            recordProviderCall(event, provider, requestedClass, toBeInjectedIn, metrics, start);
+        }
+    }
+
+    static Object get(PerClassProvider<?> provider, Class<?> requestedClass, Class<?> toBeInjectedIn, InjectorMetrics metrics) {
+        ProviderCallEvent event = new ProviderCallEvent();
+        if (metrics == null && !event.isEnabled()) {
+            return provider.get(toBeInjectedIn);
+        }
+
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            return provider.get(toBeInjectedIn);
+        } finally {
+            recordProviderCall(event, provider, requestedClass, toBeInjectedIn, metrics, start);
+        }
+    }
+
+    private static void recordProviderCall(ProviderCallEvent event, Object provider, Class<?> requestedClass, Class<?> toBeInjectedIn, InjectorMetrics metrics, long start) {
+        if (metrics != null) {
+            metrics.recordProviderCall(provider, System.nanoTime() - start);
+        }
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.providerClass = provider.getClass();
+            event.providedType = requestedClass;
+            event.targetType = toBeInjectedIn;
+            event.commit();
+        }
+    }
+
+    abstract Object resolve(Class<?> toBeInjectedIn, InjectorMetrics metrics);
+
+    static final class InstanceBinding extends Binding {
+        private final Object implementation;
+
+        InstanceBinding(Object implementation) {
+            this.implementation = implementation;
+        }
+
+        @Override
+        Object resolve(Class<?> toBeInjectedIn, InjectorMetrics metrics) {
+            return implementation;
+        }
+    }
+
+    static final class ProviderBinding extends Binding {
+        private final Provider<?> provider;
+        private final Class<?> requestedClass;
+
+        ProviderBinding(Provider<?> provider, Class<?> requestedClass) {
+            this.provider = provider;
+            this.requestedClass = requestedClass;
+        }
+
+        @Override
+        Object resolve(Class<?> toBeInjectedIn, InjectorMetrics metrics) {
+            return get(provider, requestedClass, toBeInjectedIn, metrics);
+        }
+    }
+
+    static final class PerClassProviderBinding extends Binding {
+        private final PerClassProvider<?> provider;
+        private final Class<?> requestedClass;
+        private final Binding withoutClass;
+
+        PerClassProviderBinding(PerClassProvider<?> provider, Class<?> requestedClass, Binding withoutClass) {
+            this.provider = provider;
+            this.requestedClass = requestedClass;
+            this.withoutClass = withoutClass;
+        }
+
+        @Override
+        Object resolve(Class<?> toBeInjectedIn, InjectorMetrics metrics) {
+            if (toBeInjectedIn == null) {
+                return withoutClass.resolve(null, metrics);
+            }
+            return get(provider, requestedClass, toBeInjectedIn, metrics);
+        }
+    }
+
+    static final class PooledBinding extends Binding {
+        private final ObjectPool<?> pool;
+
+        PooledBinding(ObjectPool<?> pool) {
+            this.pool = pool;
+        }
+
+        @Override
+        Object resolve(Class<?> toBeInjectedIn, InjectorMetrics metrics) {
+            throw pool.createNotPooledException();
+        }
+    }
+
+    static final class AmbiguousBinding extends Binding {
+        private final AmbiguousDependency dependency;
+
+        AmbiguousBinding(AmbiguousDependency dependency) {
+            this.dependency = dependency;
+        }
+
+        @Override
+        Object resolve(Class<?> toBeInjectedIn, InjectorMetrics metrics) {
+            throw dependency.createException();
+        }
+    }
+}
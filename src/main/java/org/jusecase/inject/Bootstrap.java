@@ -0,0 +1,368 @@
+package org.jusecase.inject;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+class Bootstrap {
+    private final Injector injector;
+    private final Collection<Class<?>> classes;
+    private final List<Node> nodes = new ArrayList<>();
+    private final Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+    private final CompletableFuture<Void> completed = new CompletableFuture<>();
+    private AtomicInteger remaining;
+    private Executor executor;
+
+    Bootstrap(Injector injector, Collection<Class<?>> classes) {
+        this.injector = injector;
+        this.classes = new LinkedHashSet<>(classes);
+    }
+
+    void run(Executor executor) {
+        for (Class<?> clazz : classes) {
+            Node node = new Node(clazz);
+            nodes.add(node);
+            try {
+                node.collectTypes();
+            } catch (Throwable e) {
+                fail(node, e);
+            }
+        }
+
+        resolveDependencies();
+        checkCircularDependencies();
+
+        // Every node is created as soon as its own dependencies are registered
+        this.executor = executor;
+        remaining = new AtomicInteger(nodes.size());
+        for (Node node : nodes) {
+            node.missing.set(node.dependencies.size());
+            node.pendingRegistration.set(node.predecessors.size() + 1);
+        }
+        List<Node> roots = nodes.stream().filter(n -> n.dependencies.isEmpty()).collect(Collectors.toList());
+        if (nodes.isEmpty()) {
+            completed.complete(null);
+        }
+        roots.forEach(this::schedule);
+        completed.join();
+
+        if (!failures.isEmpty()) {
+            throw createException();
+        }
+    }
+
+    private void schedule(Node node) {
+        try {
+            executor.execute(injector.inContext(() -> process(node)));
+        } catch (Throwable e) {
+            fail(node, e);
+            complete(node);
+        }
+    }
+
+    private void process(Node node) {
+        if (!node.failed && node.dependencies.stream().anyMatch(d -> d.failed || d.skipped)) {
+            node.skipped = true;
+        }
+        if (!node.failed && !node.skipped) {
+            construct(node);
+        }
+
+        if (node.failed || node.skipped) {
+            complete(node);
+        } else {
+            registerWhenReady(node);
+        }
+    }
+
+    // Construction of nodes that share a type runs in parallel, their registration waits for the nodes given before them
+    private void registerWhenReady(Node node) {
+        if (node.pendingRegistration.decrementAndGet() == 0) {
+            register(node);
+            complete(node);
+        }
+    }
+
+    private void complete(Node node) {
+        for (Node dependent : node.dependents) {
+            if (dependent.missing.decrementAndGet() == 0) {
+                schedule(dependent);
+            }
+        }
+        for (Node successor : node.successors) {
+            registerWhenReady(successor);
+        }
+        if (remaining.decrementAndGet() == 0) {
+            completed.complete(null);
+        }
+    }
+
+    private void construct(Node node) {
+        if (node.requestScoped) {
+            return; // Created per request
+        }
+
+        try {
+            node.instance = injector.newInstance(node.type);
+        } catch (Throwable e) {
+            fail(node, e);
+        }
+    }
+
+    private void register(Node node) {
+        try {
+            synchronized (this) {
+                node.register();
+            }
+        } catch (Throwable e) {
+            fail(node, e);
+        }
+    }
+
+    private void fail(Node node, Throwable e) {
+        node.failed = true;
+        failures.add(e);
+    }
+
+    private InjectorException createException() {
+        StringBuilder message = new StringBuilder("Failed to bootstrap ").append(failures.size()).append(" of ").append(nodes.size()).append(" classes: ");
+        message.append(failures.stream().map(Throwable::getMessage).collect(Collectors.toList()));
+
+        List<String> skipped = nodes.stream().filter(n -> n.skipped).map(n -> n.type.getName()).collect(Collectors.toList());
+        if (!skipped.isEmpty()) {
+            message.append(" Skipped ").append(skipped.size()).append(" classes with failed dependencies: ").append(skipped);
+        }
+        int registered = nodes.size() - failures.size() - skipped.size();
+        if (registered > 0) {
+            message.append(" The other ").append(registered).append(" classes were registered.");
+        }
+
+        InjectorException exception = new InjectorException(message.toString());
+        failures.forEach(exception::addSuppressed);
+        return exception;
+    }
+
+    private void resolveDependencies() {
+        Map<Class<?>, List<Node>> nodesByProvidedType = new HashMap<>();
+        Map<Class<?>, List<Node>> providerNodesByProvidedType = new HashMap<>();
+        for (Node node : nodes) {
+            for (Class<?> providedType : node.providedTypes) {
+                nodesByProvidedType.computeIfAbsent(providedType, k -> new ArrayList<>()).add(node);
+            }
+            if (node.providerOf != null) {
+                providerNodesByProvidedType.computeIfAbsent(node.providerOf, k -> new ArrayList<>()).add(node);
+            }
+        }
+
+        for (Node node : nodes) {
+            for (Class<?> requiredType : node.requiredTypes) {
+                addDependencies(node, nodesByProvidedType.get(requiredType));
+            }
+            for (Class<?> requiredProvider : node.requiredProviders) {
+                addDependencies(node, providerNodesByProvidedType.get(requiredProvider));
+            }
+        }
+
+        // Nodes that share a type are registered in the given order, so that the registration does not depend on thread timing
+        for (List<Node> sharing : nodesByProvidedType.values()) {
+            for (int i = 1; i < sharing.size(); ++i) {
+                Node earlier = sharing.get(i - 1);
+                Node later = sharing.get(i);
+                if (!dependsOn(earlier, later, new HashSet<>())) {
+                    later.predecessors.add(earlier);
+                    earlier.successors.add(later);
+                }
+            }
+        }
+    }
+
+    private static void addDependencies(Node node, List<Node> dependencies) {
+        if (dependencies == null) {
+            return;
+        }
+        for (Node dependency : dependencies) {
+            if (dependency != node && node.dependencies.add(dependency)) {
+                dependency.dependents.add(node);
+            }
+        }
+    }
+
+    private static boolean dependsOn(Node node, Node other, Set<Node> visited) {
+        if (node == other) {
+            return true;
+        }
+        if (!visited.add(node)) {
+            return false;
+        }
+        for (Node dependency : node.dependencies) {
+            if (dependsOn(dependency, other, visited)) {
+                return true;
+            }
+        }
+        for (Node predecessor : node.predecessors) {
+            if (dependsOn(predecessor, other, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void checkCircularDependencies() {
+        Map<Node, Integer> missing = new HashMap<>();
+        Deque<Node> ready = new ArrayDeque<>();
+        for (Node node : nodes) {
+            missing.put(node, node.dependencies.size() + node.predecessors.size());
+            if (missing.get(node) == 0) {
+                ready.add(node);
+            }
+        }
+
+        Set<Node> sorted = new HashSet<>(nodes.size());
+        while (!ready.isEmpty()) {
+            Node node = ready.poll();
+            sorted.add(node);
+            for (Node dependent : node.dependents) {
+                if (missing.merge(dependent, -1, Integer::sum) == 0) {
+                    ready.add(dependent);
+                }
+            }
+            for (Node successor : node.successors) {
+                if (missing.merge(successor, -1, Integer::sum) == 0) {
+                    ready.add(successor);
+                }
+            }
+        }
+
+        if (sorted.size() < nodes.size()) {
+            List<String> circular = nodes.stream().filter(n -> !sorted.contains(n)).map(n -> n.type.getName()).collect(Collectors.toList());
+            throw new InjectorException("Circular dependency between " + circular);
+        }
+    }
+
+    private class Node {
+        final Class<?> type;
+        final boolean provider;
+        final boolean perClassProvider;
+        final boolean requestScoped;
+        final Set<Class<?>> providedTypes = new HashSet<>();
+        final Set<Class<?>> requiredTypes = new HashSet<>();
+        final Set<Class<?>> requiredProviders = new HashSet<>();
+        final Set<Node> dependencies = new LinkedHashSet<>();
+        final Set<Node> predecessors = new LinkedHashSet<>();
+        final List<Node> dependents = new ArrayList<>();
+        final List<Node> successors = new ArrayList<>();
+        final AtomicInteger missing = new AtomicInteger();
+        final AtomicInteger pendingRegistration = new AtomicInteger();
+        Class<?> providerOf;
+        volatile Object instance;
+        volatile boolean failed;
+        volatile boolean skipped;
+
+        Node(Class<?> type) {
+            this.type = type;
+            this.provider = Provider.class.isAssignableFrom(type);
+            this.perClassProvider = PerClassProvider.class.isAssignableFrom(type);
+            this.requestScoped = type.isAnnotationPresent(RequestScoped.class);
+        }
+
+        void collectTypes() {
+            collectTypes(type, providedTypes);
+            if (provider) {
+                providerOf = GenericTypeResolver.getRawType(GenericTypeResolver.getProvidedType(type));
+                collectTypes(providerOf, providedTypes);
+            }
+            if (perClassProvider) {
+                collectTypes(GenericTypeResolver.getRawType(GenericTypeResolver.getPerClassProvidedType(type)), providedTypes);
+            }
+
+            collectConstructorTypes(type);
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (InjectionPoint point : injector.getInjectionPlan(c).points) {
+                    if (point.lazy) {
+                        continue;
+                    }
+                    if (point.type == Provider.class) {
+                        requireProvider(point.field.getGenericType());
+                        continue;
+                    }
+                    requiredTypes.add(point.type);
+                    if (point.elementType != null) {
+                        requiredTypes.add(point.elementType); // Multibindings contain all implementations
+                    }
+                }
+            }
+        }
+
+        void register() {
+            if (requestScoped) {
+                injector.addRequestScoped(type);
+            } else if (provider) {
+                injector.addProvider((Provider<?>) instance);
+            } else if (perClassProvider) {
+                injector.addProvider((PerClassProvider<?>) instance);
+            } else {
+                injector.add(type, instance);
+            }
+        }
+
+        private void collectTypes(Class<?> clazz, Set<Class<?>> types) {
+            Collections.addAll(types, TypeClosure.of(clazz));
+        }
+
+        private void collectConstructorTypes(Class<?> clazz) {
+            GeneratedInjector<?> generatedInjector = GeneratedInjectors.find(clazz);
+            if (generatedInjector != null && generatedInjector.getConstructorParameterTypes() != null) {
+                Class<?>[] parameterTypes = generatedInjector.getConstructorParameterTypes();
+                try {
+                    collectParameterTypes(clazz.getDeclaredConstructor(parameterTypes));
+                } catch (NoSuchMethodException e) {
+                    Collections.addAll(requiredTypes, parameterTypes); // Reported when the instance is created
+                }
+                return;
+            }
+
+            for (Constructor<?> constructor : clazz.getDeclaredConstructors()) {
+                if (constructor.isAnnotationPresent(Inject.class)) {
+                    collectParameterTypes(constructor);
+                    return;
+                }
+            }
+        }
+
+        private void collectParameterTypes(Constructor<?> constructor) {
+            Type[] genericTypes = constructor.getGenericParameterTypes();
+            Class<?>[] types = constructor.getParameterTypes();
+            for (int i = 0; i < types.length; ++i) {
+                Type genericType = i < genericTypes.length ? genericTypes[i] : types[i];
+                if (types[i] == Provider.class) {
+                    requireProvider(genericType);
+                    continue;
+                }
+
+                requiredTypes.add(types[i]);
+                Class<?> elementType = MultiBindings.getElementType(genericType);
+                if (elementType != null) {
+                    requiredTypes.add(elementType);
+                }
+            }
+        }
+
+        // A Provider<T> is lazy, only the provider needs to be registered and not what it provides
+        private void requireProvider(Type providerType) {
+            if (providerType instanceof ParameterizedType) {
+                Type providedType = ((ParameterizedType) providerType).getActualTypeArguments()[0];
+                if (providedType instanceof Class || providedType instanceof ParameterizedType) {
+                    requiredProviders.add(GenericTypeResolver.getRawType(providedType));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package org.jusecase.inject;
+
+public class CachingPerClassProvider<T> implements PerClassProvider<T> {
+    private final PerClassProvider<T> provider;
+    private final ClassValue<T> cache = new ClassValue<>() {
+        @Override
+        protected T computeValue(Class<?> classToInject) {
+            return provider.get(classToInject);
+        }
+    };
+
+    public CachingPerClassProvider(PerClassProvider<T> provider) {
+        this.provider = provider;
+    }
+
+    public PerClassProvider<T> getProvider() {
+        return provider;
+    }
+
+    @Override
+    public T get(Class<?> classToInject) {
+        return cache.get(classToInject);
+    }
+}
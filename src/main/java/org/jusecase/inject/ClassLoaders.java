@@ -0,0 +1,24 @@
+package org.jusecase.inject;
+
+class ClassLoaders {
+
+    // True if the class was loaded by the class loader or one of its children
+    static boolean isLoadedBy(Class<?> type, ClassLoader classLoader) {
+        for (ClassLoader loader = type.getClassLoader(); loader != null; loader = loader.getParent()) {
+            if (loader == classLoader) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static String getName(ClassLoader classLoader) {
+        if (classLoader == null) {
+            return "bootstrap";
+        }
+        if (classLoader.getName() != null) {
+            return classLoader.getName();
+        }
+        return classLoader.getClass().getName() + "@" + Integer.toHexString(System.identityHashCode(classLoader));
+    }
+}
@@ -0,0 +1,45 @@
+package org.jusecase.inject;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+class ComponentIndex {
+    static final String LOCATION = "META-INF/jusecase-inject/components";
+
+    static Set<Class<?>> load(ClassLoader classLoader) {
+        Set<Class<?>> components = new LinkedHashSet<>();
+        try {
+            Enumeration<URL> resources = classLoader.getResources(LOCATION);
+            while (resources.hasMoreElements()) {
+                load(classLoader, resources.nextElement(), components);
+            }
+        } catch (IOException e) {
+            throw new InjectorException("Failed to read component index " + LOCATION, e);
+        }
+        return components;
+    }
+
+    private static void load(ClassLoader classLoader, URL resource, Set<Class<?>> components) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+
+                try {
+                    components.add(Class.forName(line, false, classLoader));
+                } catch (ClassNotFoundException e) {
+                    throw new InjectorException("Component " + line + " listed in " + resource + " does not exist", e);
+                }
+            }
+        }
+    }
+}
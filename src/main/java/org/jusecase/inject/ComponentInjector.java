@@ -0,0 +1,41 @@
+package org.jusecase.inject;
+
+/**
+ * Injects the fields declared by one component class. The java agent keeps one instance per class in a static field
+ * and calls it from every public constructor, so that no per construction lookup of the injection plan is needed.
+ */
+public final class ComponentInjector {
+    private final Class<?> declaringType;
+    private final boolean component;
+    private volatile InjectionPlan plan;
+
+    private ComponentInjector(Class<?> declaringType) {
+        this.declaringType = declaringType;
+        this.component = Injector.isComponent(declaringType);
+    }
+
+    public static ComponentInjector of(Class<?> declaringType) {
+        return new ComponentInjector(declaringType);
+    }
+
+    public void inject(Object instance) {
+        Class<?> type = instance.getClass();
+        if (type == declaringType ? component : Injector.isComponent(type)) {
+            InjectionPlan plan = getPlan();
+            Injector injector = Injector.getInstanceFor(plan);
+            if (injector != null) {
+                injector.inject(instance, plan);
+            }
+        }
+    }
+
+    private InjectionPlan getPlan() {
+        InjectionPlan plan = this.plan;
+        if (plan == null) {
+            // Created on first construction, so that invalid components fail there and not in the static initializer
+            plan = InjectionPlan.of(declaringType);
+            this.plan = plan;
+        }
+        return plan;
+    }
+}
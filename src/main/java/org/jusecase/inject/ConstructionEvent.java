@@ -0,0 +1,13 @@
+package org.jusecase.inject;
+
+import jdk.jfr.*;
+
+@Name("org.jusecase.inject.Construction")
+@Label("Construction")
+@Category("Inject")
+@Description("Creation of a dependency by the injector")
+@Threshold("10 ms")
+class ConstructionEvent extends Event {
+    @Label("Type")
+    Class<?> type;
+}
@@ -0,0 +1,80 @@
+package org.jusecase.inject;
+
+import javax.inject.Inject;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Parameter;
+import java.util.List;
+
+class ConstructorPlan {
+    static final Object[] NO_ARGUMENTS = new Object[0];
+
+    final Argument[] arguments;
+    private final GeneratedInjector<Object> generatedInjector;
+    private final Constructor<?> constructor;
+
+    private ConstructorPlan(Argument[] arguments, GeneratedInjector<Object> generatedInjector, Constructor<?> constructor) {
+        this.arguments = arguments;
+        this.generatedInjector = generatedInjector;
+        this.constructor = constructor;
+    }
+
+    @SuppressWarnings("unchecked")
+    static ConstructorPlan create(Class<?> clazz) {
+        GeneratedInjector<?> generatedInjector = GeneratedInjectors.find(clazz);
+        try {
+            if (generatedInjector != null && generatedInjector.getConstructorParameterTypes() != null) {
+                Class<?>[] parameterTypes = generatedInjector.getConstructorParameterTypes();
+                Argument[] arguments = parameterTypes.length == 0 ? new Argument[0] : createArguments(clazz, clazz.getDeclaredConstructor(parameterTypes));
+                return new ConstructorPlan(arguments, (GeneratedInjector<Object>) generatedInjector, null);
+            }
+
+            for (Constructor<?> constructor : clazz.getDeclaredConstructors()) {
+                if (constructor.isAnnotationPresent(Inject.class)) {
+                    return new ConstructorPlan(createArguments(clazz, constructor), null, constructor);
+                }
+            }
+
+            return new ConstructorPlan(new Argument[0], null, clazz.getConstructor());
+        } catch (NoSuchMethodException e) {
+            throw new InjectorException("Failed to create instance of " + clazz , e);
+        }
+    }
+
+    private static Argument[] createArguments(Class<?> clazz, Constructor<?> constructor) {
+        Parameter[] parameters = constructor.getParameters();
+        Argument[] arguments = new Argument[parameters.length];
+        for (int i = 0; i < parameters.length; ++i) {
+            arguments[i] = new Argument(clazz, parameters[i]);
+        }
+        return arguments;
+    }
+
+    Object newInstance(Object[] arguments) throws Exception {
+        if (generatedInjector != null) {
+            return generatedInjector.newInstance(arguments);
+        }
+        return constructor.newInstance(arguments);
+    }
+
+    static final class Argument {
+        final Parameter parameter;
+        final Class<?> type;
+        final TypeKey genericType;
+        final Class<?> elementType;
+        final QualifierKey qualifier;
+
+        Argument(Class<?> clazz, Parameter parameter) {
+            List<Annotation> qualifiers = QualifierKey.findQualifiers(parameter.getAnnotations());
+            if (qualifiers.size() > 1) {
+                throw new InjectorException(Injector.createInjectErrorMessage("@Inject parameter must not have more than one qualifier.", clazz, parameter));
+            }
+
+            this.parameter = parameter;
+            this.type = parameter.getType();
+            this.genericType = TypeKey.ofParameterized(parameter.getParameterizedType());
+            this.elementType = MultiBindings.getElementType(parameter.getParameterizedType());
+            this.qualifier = qualifiers.isEmpty() ? null : QualifierKey.of(qualifiers.get(0));
+        }
+    }
+}
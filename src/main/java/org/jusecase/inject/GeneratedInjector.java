@@ -0,0 +1,17 @@
+package org.jusecase.inject;
+
+public interface GeneratedInjector<T> {
+    String SUFFIX = "$$Injector";
+
+    String[] getFieldNames();
+
+    // Assigns every field of getFieldNames(), resolved with Injector.resolveGeneratedField() by index
+    void inject(T instance, Injector injector);
+
+    // Null if the injector cannot create instances, newInstance() is not used then
+    Class<?>[] getConstructorParameterTypes();
+
+    default T newInstance(Object[] arguments) throws Exception {
+        throw new UnsupportedOperationException(getClass().getName() + " cannot create instances.");
+    }
+}
@@ -0,0 +1,41 @@
+package org.jusecase.inject;
+
+import java.util.Optional;
+
+class GeneratedInjectors {
+    private static final ClassValue<Optional<GeneratedInjector<?>>> generatedInjectors = new ClassValue<>() {
+        @Override
+        protected Optional<GeneratedInjector<?>> computeValue(Class<?> type) {
+            return Optional.ofNullable(load(type));
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    static <T> GeneratedInjector<T> find(Class<T> type) {
+        return (GeneratedInjector<T>) generatedInjectors.get(type).orElse(null);
+    }
+
+    private static GeneratedInjector<?> load(Class<?> type) {
+        ClassLoader classLoader = type.getClassLoader();
+        if (classLoader == null) {
+            return null;
+        }
+
+        Class<?> injectorClass;
+        try {
+            injectorClass = Class.forName(type.getName() + GeneratedInjector.SUFFIX, true, classLoader);
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+
+        if (!GeneratedInjector.class.isAssignableFrom(injectorClass)) {
+            return null;
+        }
+
+        try {
+            return (GeneratedInjector<?>) injectorClass.getConstructor().newInstance();
+        } catch (Exception e) {
+            throw new InjectorException("Failed to create generated injector " + injectorClass.getName(), e);
+        }
+    }
+}
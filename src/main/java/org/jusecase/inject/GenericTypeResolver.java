@@ -1,29 +1,170 @@
 package org.jusecase.inject;
 
-import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
+import javax.inject.Provider;
+import java.lang.reflect.*;
+import java.util.*;
 
 public class GenericTypeResolver {
+    // Provided types of provider classes, resolved once per class
+    private static final ClassValue<Type> providedTypes = new ClassValue<>() {
+        @Override
+        protected Type computeValue(Class<?> type) {
+            return resolveType(Provider.class, type, 0);
+        }
+    };
+    private static final ClassValue<Type> perClassProvidedTypes = new ClassValue<>() {
+        @Override
+        protected Type computeValue(Class<?> type) {
+            return resolveType(PerClassProvider.class, type, 0);
+        }
+    };
+
     public static Class<?> resolve(Type type, Class<?> clazz, int index) {
-        Type[] genericInterfaces = clazz.getGenericInterfaces();
+        return getRawType(resolveType(type, clazz, index));
+    }
 
-        for (Type genericInterface : genericInterfaces) {
-            if (ParameterizedType.class.isAssignableFrom(genericInterface.getClass())) {
-                ParameterizedType parameterizedType = (ParameterizedType)genericInterface;
-                if (parameterizedType.getRawType() == type) {
-                    return (Class<?>)(parameterizedType.getActualTypeArguments()[index]);
+    /**
+     * Like {@link #resolve(Type, Class, int)}, but keeps type arguments, e.g. List&lt;Foo&gt; for a Provider&lt;List&lt;Foo&gt;&gt;.
+     */
+    public static Type resolveType(Type type, Class<?> clazz, int index) {
+        for (ParameterizedType supertype : getGenericSupertypes(clazz)) {
+            if (supertype.getRawType() == type) {
+                Type argument = supertype.getActualTypeArguments()[index];
+                if (!(argument instanceof TypeVariable)) {
+                    return argument;
                 }
             }
         }
 
+        throw new InjectorException("Failed to resolve generic type " + type + " from class " + clazz + " at index " + index);
+    }
+
+    static Type getProvidedType(Class<?> providerClass) {
+        return providedTypes.get(providerClass);
+    }
+
+    static Type getPerClassProvidedType(Class<?> providerClass) {
+        return perClassProvidedTypes.get(providerClass);
+    }
+
+    public static Class<?> getRawType(Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        }
+        if (type instanceof ParameterizedType) {
+            return (Class<?>) ((ParameterizedType) type).getRawType();
+        }
+        if (type instanceof WildcardType) {
+            return getRawType(((WildcardType) type).getUpperBounds()[0]);
+        }
+        if (type instanceof GenericArrayType) {
+            return Array.newInstance(getRawType(((GenericArrayType) type).getGenericComponentType()), 0).getClass();
+        }
+        throw new InjectorException("Failed to resolve raw type of " + type);
+    }
+
+    // All parameterized superclasses and interfaces, with type variables of subclasses substituted where known
+    static List<ParameterizedType> getGenericSupertypes(Class<?> clazz) {
+        List<ParameterizedType> supertypes = new ArrayList<>();
+        collectSupertypes(clazz, Collections.emptyMap(), supertypes);
+        return supertypes;
+    }
+
+    private static void collectSupertypes(Class<?> clazz, Map<TypeVariable<?>, Type> bindings, List<ParameterizedType> supertypes) {
+        for (Type genericInterface : clazz.getGenericInterfaces()) {
+            collectSupertypes(genericInterface, bindings, supertypes);
+        }
         Type genericSuperclass = clazz.getGenericSuperclass();
-        if (genericSuperclass instanceof ParameterizedType) {
-            ParameterizedType parameterizedType = (ParameterizedType) genericSuperclass;
-            return (Class<?>) (parameterizedType.getActualTypeArguments()[index]);
-        } else if (genericSuperclass instanceof Class<?>) {
-            return resolve(type, (Class<?>)genericSuperclass, index);
+        if (genericSuperclass != null) {
+            collectSupertypes(genericSuperclass, bindings, supertypes);
         }
+    }
 
-        throw new InjectorException("Failed to resolve generic type " + type + " from class " + clazz + " at index " + index);
+    private static void collectSupertypes(Type supertype, Map<TypeVariable<?>, Type> bindings, List<ParameterizedType> supertypes) {
+        if (supertype instanceof Class) {
+            collectSupertypes((Class<?>) supertype, Collections.emptyMap(), supertypes);
+        } else if (supertype instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) substitute(supertype, bindings);
+            supertypes.add(parameterizedType);
+
+            Class<?> rawType = (Class<?>) parameterizedType.getRawType();
+            TypeVariable<?>[] variables = rawType.getTypeParameters();
+            Type[] arguments = parameterizedType.getActualTypeArguments();
+            Map<TypeVariable<?>, Type> rawTypeBindings = new HashMap<>();
+            for (int i = 0; i < variables.length; ++i) {
+                rawTypeBindings.put(variables[i], arguments[i]);
+            }
+            collectSupertypes(rawType, rawTypeBindings, supertypes);
+        }
+    }
+
+    private static Type substitute(Type type, Map<TypeVariable<?>, Type> bindings) {
+        if (type instanceof TypeVariable) {
+            return bindings.getOrDefault(type, type);
+        }
+        if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            Type[] arguments = parameterizedType.getActualTypeArguments().clone();
+            boolean substituted = false;
+            for (int i = 0; i < arguments.length; ++i) {
+                Type argument = substitute(arguments[i], bindings);
+                if (argument != arguments[i]) {
+                    arguments[i] = argument;
+                    substituted = true;
+                }
+            }
+            return substituted ? new ResolvedParameterizedType((Class<?>) parameterizedType.getRawType(), parameterizedType.getOwnerType(), arguments) : type;
+        }
+        return type;
+    }
+
+    private static final class ResolvedParameterizedType implements ParameterizedType {
+        private final Class<?> rawType;
+        private final Type ownerType;
+        private final Type[] arguments;
+
+        ResolvedParameterizedType(Class<?> rawType, Type ownerType, Type[] arguments) {
+            this.rawType = rawType;
+            this.ownerType = ownerType;
+            this.arguments = arguments;
+        }
+
+        @Override
+        public Type[] getActualTypeArguments() {
+            return arguments.clone();
+        }
+
+        @Override
+        public Type getRawType() {
+            return rawType;
+        }
+
+        @Override
+        public Type getOwnerType() {
+            return ownerType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof ParameterizedType)) {
+                return false;
+            }
+            ParameterizedType that = (ParameterizedType) o;
+            return rawType.equals(that.getRawType()) && Objects.equals(ownerType, that.getOwnerType()) && Arrays.equals(arguments, that.getActualTypeArguments());
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(arguments) ^ Objects.hashCode(ownerType) ^ rawType.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            StringJoiner joiner = new StringJoiner(", ", rawType.getName() + "<", ">");
+            for (Type argument : arguments) {
+                joiner.add(argument.getTypeName());
+            }
+            return joiner.toString();
+        }
     }
 }
@@ -0,0 +1,16 @@
+package org.jusecase.inject;
+
+import jdk.jfr.*;
+
+@Name("org.jusecase.inject.Injection")
+@Label("Injection")
+@Category("Inject")
+@Description("Field injection of a component")
+@Threshold("1 ms")
+class InjectionEvent extends Event {
+    @Label("Declaring Type")
+    Class<?> declaringType;
+
+    @Label("Field Count")
+    int fieldCount;
+}
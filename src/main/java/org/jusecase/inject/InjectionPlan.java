@@ -0,0 +1,92 @@
+package org.jusecase.inject;
+
+import javax.inject.Inject;
+import java.lang.reflect.Field;
+import java.util.*;
+
+class InjectionPlan {
+    private static final ClassValue<InjectionPlan> plans = new ClassValue<>() {
+        @Override
+        protected InjectionPlan computeValue(Class<?> type) {
+            InjectionPlan plan = create(type);
+            plannedTypes.add(type);
+            return plan;
+        }
+    };
+    // Weak, so that plans never keep classes or their class loaders alive
+    private static final Set<Class<?>> plannedTypes = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    final Class<?> declaringType;
+    final InjectionPoint[] points;
+    final InjectionPoint[] reflectivePoints;
+    final InjectionPoint[] generatedPoints; // Indexed like the field names of the generated injector
+    final GeneratedInjector<Object> generatedInjector;
+    private volatile ConstructorPlan constructor;
+
+    private InjectionPlan(Class<?> declaringType, InjectionPoint[] points, InjectionPoint[] reflectivePoints, InjectionPoint[] generatedPoints, GeneratedInjector<Object> generatedInjector) {
+        this.declaringType = declaringType;
+        this.points = points;
+        this.reflectivePoints = reflectivePoints;
+        this.generatedPoints = generatedPoints;
+        this.generatedInjector = generatedInjector;
+    }
+
+    static InjectionPlan of(Class<?> declaringType) {
+        return plans.get(declaringType);
+    }
+
+    ConstructorPlan getConstructor() {
+        ConstructorPlan constructor = this.constructor;
+        if (constructor == null) {
+            // Only needed for classes the injector creates, and fails for the others
+            constructor = ConstructorPlan.create(declaringType);
+            this.constructor = constructor;
+        }
+        return constructor;
+    }
+
+    static List<Class<?>> getPlannedTypes() {
+        synchronized (plannedTypes) {
+            return new ArrayList<>(plannedTypes);
+        }
+    }
+
+    static void evict(ClassLoader classLoader) {
+        for (Class<?> type : getPlannedTypes()) {
+            if (ClassLoaders.isLoadedBy(type, classLoader)) {
+                plannedTypes.remove(type);
+                plans.remove(type);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static InjectionPlan create(Class<?> declaringType) {
+        GeneratedInjector<Object> generatedInjector = (GeneratedInjector<Object>) GeneratedInjectors.find(declaringType);
+        List<String> generatedFieldNames = generatedInjector == null ? List.of() : Arrays.asList(generatedInjector.getFieldNames());
+
+        List<InjectionPoint> points = new ArrayList<>();
+        List<InjectionPoint> reflectivePoints = new ArrayList<>();
+        InjectionPoint[] generatedPoints = new InjectionPoint[generatedFieldNames.size()];
+        for (Field field : declaringType.getDeclaredFields()) {
+            if (field.isAnnotationPresent(Inject.class)) {
+                int generatedIndex = generatedFieldNames.indexOf(field.getName());
+                InjectionPoint point = new InjectionPoint(declaringType, field, generatedIndex >= 0);
+                points.add(point);
+                if (generatedIndex < 0) {
+                    reflectivePoints.add(point);
+                } else {
+                    generatedPoints[generatedIndex] = point;
+                }
+            }
+        }
+
+        for (int i = 0; i < generatedPoints.length; ++i) {
+            if (generatedPoints[i] == null) {
+                throw new InjectorException("Generated injector of " + declaringType.getName() + " is outdated, @Inject field " + generatedFieldNames.get(i) + " not found.");
+            }
+        }
+
+        return new InjectionPlan(declaringType, points.toArray(new InjectionPoint[0]), reflectivePoints.toArray(new InjectionPoint[0]), generatedPoints, generatedInjector);
+    }
+}
@@ -0,0 +1,87 @@
+package org.jusecase.inject;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+
+class InjectionPoint {
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    final Field field;
+    final Class<?> type;
+    final TypeKey genericType;
+    final Class<?> elementType;
+    final QualifierKey qualifier;
+    final boolean lazy;
+    final boolean pooled;
+    private final MethodHandle setter;
+
+    InjectionPoint(Class<?> declaringType, Field field) {
+        this(declaringType, field, false);
+    }
+
+    // Generated fields are assigned by the generated injector, so no setter is needed
+    InjectionPoint(Class<?> declaringType, Field field, boolean generated) {
+        if (Modifier.isFinal(field.getModifiers())) {
+            throw new InjectorException(Injector.createInjectErrorMessage("@Inject field must not be final.", declaringType, field));
+        }
+
+        this.field = field;
+        this.lazy = field.getType() == Lazy.class;
+        this.pooled = field.getType() == Pooled.class;
+        this.type = lazy || pooled ? GenericTypeResolver.getRawType(resolveTypeArgument(declaringType, field)) : field.getType();
+        this.genericType = TypeKey.ofParameterized(lazy || pooled ? resolveTypeArgument(declaringType, field) : field.getGenericType());
+        this.elementType = pooled ? null : MultiBindings.getElementType(lazy ? resolveTypeArgument(declaringType, field) : field.getGenericType());
+        this.qualifier = resolveQualifier(declaringType, field);
+        this.setter = generated ? null : createSetter(declaringType, field);
+    }
+
+    void set(Object instance, Object implementation) {
+        try {
+            setter.invokeExact(instance, implementation);
+        } catch (Throwable e) {
+            throw new InjectorException(Injector.createInjectErrorMessage("Failed to access field.", field.getDeclaringClass(), field), e);
+        }
+    }
+
+    private static Type resolveTypeArgument(Class<?> declaringType, Field field) {
+        Type genericType = field.getGenericType();
+        if (genericType instanceof ParameterizedType) {
+            Type typeArgument = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+            if (typeArgument instanceof Class || typeArgument instanceof ParameterizedType) {
+                return typeArgument;
+            }
+        }
+        throw new InjectorException(Injector.createInjectErrorMessage(field.getType().getSimpleName() + " field must declare the type to inject.", declaringType, field));
+    }
+
+    private static QualifierKey resolveQualifier(Class<?> declaringType, Field field) {
+        List<Annotation> qualifiers = QualifierKey.findQualifiers(field.getAnnotations());
+        if (qualifiers.isEmpty()) {
+            return null;
+        }
+        if (qualifiers.size() > 1) {
+            throw new InjectorException(Injector.createInjectErrorMessage("@Inject field must not have more than one qualifier.", declaringType, field));
+        }
+        return QualifierKey.of(qualifiers.get(0));
+    }
+
+    private static MethodHandle createSetter(Class<?> declaringType, Field field) {
+        try {
+            field.setAccessible(true);
+            MethodHandle setter = MethodHandles.lookup().unreflectSetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                setter = MethodHandles.dropArguments(setter, 0, Object.class); // Ignores the instance, like Field.set
+            }
+            return setter.asType(SETTER_TYPE);
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new InjectorException(Injector.createInjectErrorMessage("Failed to access field.", declaringType, field), e);
+        }
+    }
+}
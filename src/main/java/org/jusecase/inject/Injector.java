@@ -1,273 +1,1122 @@
 package org.jusecase.inject;
 
 import javax.inject.Inject;
-import javax.inject.Named;
 import javax.inject.Provider;
+import java.lang.annotation.Annotation;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 public class Injector {
     private static final Injector instance = new Injector();
-    private static boolean unitTestMode;
+    private static volatile boolean unitTestMode;
+    private static final ClassValue<Boolean> components = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return type.isAnnotationPresent(Component.class);
+        }
+    };
+
+    private final Map<Class<?>, Object> implementations = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Map<QualifierKey, Object>> implementationsByQualifier = new ConcurrentHashMap<>();
+    private final Map<TypeKey, Object> implementationsByGenericType = new ConcurrentHashMap<>();
+    private volatile boolean resolveUnitTestDependencies;
+    private volatile SealedRegistry sealedRegistry;
+    private volatile InjectorMetrics metrics;
+    private volatile StartupProfiler profiler;
+    private volatile InjectorSnapshot baseline;
+    private volatile RequestScopedSlots requestScopedSlots = new RequestScopedSlots();
+    private final AtomicInteger registrationVersion = new AtomicInteger();
+    private volatile MultiBindings multiBindings;
 
-    private final Map<Class<?>, Object> implementations = new HashMap<>();
-    private final Map<Class<?>, Map<String, Object>> implementationsByName = new HashMap<>();
-    private final Map<Class<?>, List<Field>> injectableFields = new HashMap<>();
-    private boolean resolveUnitTestDependencies;
+    public Injector() {
+    }
+
+    public Injector(InjectorSnapshot baseline) {
+        this.baseline = baseline;
+        this.requestScopedSlots = baseline == null ? new RequestScopedSlots() : baseline.requestScopedSlots;
+    }
 
     public static Injector getInstance() {
         if (unitTestMode) {
-            return UnitTestInstanceHolder.unitTestInstance.get();
+            return UnitTestInstanceHolder.get();
         }
         return instance;
     }
 
+    public static Runnable wrap(Runnable runnable) {
+        return getInstance().inContext(runnable);
+    }
+
+    public static <T> Callable<T> wrap(Callable<T> callable) {
+        return getInstance().inContext(callable);
+    }
+
+    Runnable inContext(Runnable runnable) {
+        if (!unitTestMode) {
+            return runnable;
+        }
+
+        return () -> {
+            UnitTestInstanceHolder.Context previous = UnitTestInstanceHolder.enter(this);
+            try {
+                runnable.run();
+            } finally {
+                UnitTestInstanceHolder.exit(previous);
+            }
+        };
+    }
+
+    <T> Callable<T> inContext(Callable<T> callable) {
+        if (!unitTestMode) {
+            return callable;
+        }
+
+        return () -> {
+            UnitTestInstanceHolder.Context previous = UnitTestInstanceHolder.enter(this);
+            try {
+                return callable.call();
+            } finally {
+                UnitTestInstanceHolder.exit(previous);
+            }
+        };
+    }
+
     public void add(Object implementation) {
-        add(implementation.getClass(), implementation);
+        profile("add", implementation.getClass(), () -> add(implementation.getClass(), implementation));
     }
 
     public void add(String name, Object implementation) {
-        add(name, implementation.getClass(), implementation);
+        profile("add", implementation.getClass(), () -> add(QualifierKey.named(name), implementation.getClass(), implementation));
+    }
+
+    public <T> void add(TypeLiteral<T> type, T implementation) {
+        profile("add", type.key.rawType, () -> {
+            checkNotSealed();
+            implementationsByGenericType.put(type.key, implementation);
+            registrationsChanged();
+        });
+    }
+
+    public void addQualified(Annotation qualifier, Object implementation) {
+        profile("addQualified", implementation.getClass(), () -> add(QualifierKey.of(qualifier), implementation.getClass(), implementation));
+    }
+
+    public void addQualified(Class<? extends Annotation> qualifierType, Object implementation) {
+        profile("addQualified", implementation.getClass(), () -> add(QualifierKey.of(qualifierType), implementation.getClass(), implementation));
     }
 
     public <T> void add(Class<T> implementationClass) {
-        add(implementationClass, newInstance(implementationClass));
+        profile("add", implementationClass, () -> {
+            if (implementationClass.isAnnotationPresent(RequestScoped.class)) {
+                addRequestScoped(implementationClass);
+            } else {
+                add(implementationClass, newInstance(implementationClass));
+            }
+        });
     }
 
     public <T> void add(String name, Class<T> implementationClass) {
-        add(name, implementationClass, newInstance(implementationClass));
+        profile("add", implementationClass, () -> add(QualifierKey.named(name), implementationClass, newInstance(implementationClass)));
     }
 
     public <T extends Provider<?>> void addProvider(Class<T> providerClass) {
-        addProvider((Provider<?>) newInstance(providerClass));
+        profile("addProvider", providerClass, () -> addProvider((Provider<?>) newInstance(providerClass)));
     }
 
     public <T extends Provider<?>> void addProviderForSingleInstance(Class<T> providerClass) {
-        addProviderForSingleInstance((Provider<?>) newInstance(providerClass));
+        profile("addProviderForSingleInstance", providerClass, () -> addProviderForSingleInstance((Provider<?>) newInstance(providerClass)));
     }
 
-    @SuppressWarnings("unchecked")
-    private <T> T newInstance(Class<T> clazz) {
-
-        for (Constructor<?> constructor : clazz.getDeclaredConstructors()) {
-            if (constructor.isAnnotationPresent(Inject.class)) {
-                Object[] arguments = new Object[constructor.getParameterCount()];
-                Parameter[] parameters = constructor.getParameters();
-                for (int i = 0; i < parameters.length; ++i) {
-                    arguments[i] = resolveImplementation(parameters[i].getType(), clazz);
-                    if (arguments[i] == null) {
-                        throw new InjectorException(createInjectErrorMessage("No implementation found.", clazz, parameters[i]));
-                    }
-                }
-                try {
-                    return (T)constructor.newInstance(arguments);
-                } catch (Throwable e) {
-                    throw new InjectorException("Failed to create instance of " + clazz , e);
-                }
+    public <T> void addPooled(Class<T> implementationClass, int size) {
+        profile("addPooled", implementationClass, () -> add(implementationClass, new ObjectPool<>(implementationClass, size, () -> construct(implementationClass))));
+    }
+
+    public <T> void addPooled(Class<T> implementationClass, int size, Provider<? extends T> factory) {
+        profile("addPooled", implementationClass, () -> add(implementationClass, new ObjectPool<>(implementationClass, size, factory)));
+    }
+
+    public <T> void addRequestScoped(Class<T> implementationClass) {
+        profile("addRequestScoped", implementationClass, () -> add(implementationClass, new RequestScopedProvider<>(implementationClass, () -> construct(implementationClass), requestScopedSlots)));
+    }
+
+    public <T> void addRequestScoped(Provider<T> provider) {
+        profile("addRequestScoped", provider.getClass(), () -> {
+            Type providedType = GenericTypeResolver.getProvidedType(provider.getClass());
+            Class<?> providedClass = GenericTypeResolver.getRawType(providedType);
+            RequestScopedProvider<T> requestScopedProvider = new RequestScopedProvider<>(providedClass, provider, requestScopedSlots);
+            add(providedClass, requestScopedProvider);
+            addGenericType(providedType, requestScopedProvider);
+        });
+    }
+
+    private void profile(String operation, Class<?> type, Runnable registration) {
+        StartupProfiler profiler = this.profiler;
+        if (profiler == null) {
+            registration.run();
+            return;
+        }
+
+        StartupProfiler.Frame frame = profiler.enterRegistration(operation, type);
+        try {
+            registration.run();
+        } finally {
+            profiler.exit(frame);
+        }
+    }
+
+    public void runInScope(Runnable runnable) {
+        RequestScope previous = enterScope();
+        try {
+            runnable.run();
+        } finally {
+            exitScope(previous);
+        }
+    }
+
+    public <T> T callInScope(Callable<T> callable) throws Exception {
+        RequestScope previous = enterScope();
+        try {
+            return callable.call();
+        } finally {
+            exitScope(previous);
+        }
+    }
+
+    private RequestScope enterScope() {
+        RequestScope previous = RequestScope.current.get();
+        RequestScope.current.set(new RequestScope(requestScopedSlots));
+        return previous;
+    }
+
+    private void exitScope(RequestScope previous) {
+        if (previous == null) {
+            RequestScope.current.remove();
+        } else {
+            RequestScope.current.set(previous);
+        }
+    }
+
+    public void bootstrap(Collection<Class<?>> classes) {
+        bootstrap(classes, ForkJoinPool.commonPool());
+    }
+
+    public void bootstrap(Collection<Class<?>> classes, Executor executor) {
+        checkNotSealed();
+        long startNanos = System.nanoTime();
+        try {
+            new Bootstrap(this, classes).run(executor);
+        } finally {
+            StartupProfiler profiler = this.profiler;
+            if (profiler != null) {
+                profiler.elapsed(startNanos, System.nanoTime());
             }
+            if (profiler != null && profiler.bootstrapCompleted()) {
+                detachStartupProfiler(profiler); // Startup is over once the report was delivered
+            }
+        }
+    }
+
+    <T> T newInstance(Class<T> clazz) {
+        checkNotSealed();
+
+        StartupProfiler profiler = this.profiler;
+        if (profiler == null) {
+            return construct(clazz);
         }
 
+        StartupProfiler.Frame frame = profiler.enter("new", clazz);
         try {
-            return clazz.getConstructor().newInstance();
+            return construct(clazz);
+        } finally {
+            profiler.exit(frame);
+        }
+    }
+
+    private <T> T construct(Class<T> clazz) {
+        ConstructionEvent event = new ConstructionEvent();
+        if (!event.isEnabled()) {
+            return createInstance(clazz);
+        }
+
+        event.begin();
+        try {
+            return createInstance(clazz);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.type = clazz;
+                event.commit();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T createInstance(Class<T> clazz) {
+        ConstructorPlan constructor = getInjectionPlan(clazz).getConstructor();
+        Object[] arguments = resolveArguments(clazz, constructor.arguments);
+        try {
+            return (T)constructor.newInstance(arguments);
         } catch (Throwable e) {
             throw new InjectorException("Failed to create instance of " + clazz , e);
         }
     }
 
+    private Object[] resolveArguments(Class<?> clazz, ConstructorPlan.Argument[] constructorArguments) {
+        if (constructorArguments.length == 0) {
+            return ConstructorPlan.NO_ARGUMENTS;
+        }
+
+        Object[] arguments = new Object[constructorArguments.length];
+        for (int i = 0; i < constructorArguments.length; ++i) {
+            ConstructorPlan.Argument argument = constructorArguments[i];
+            if (argument.qualifier == null) {
+                if (argument.elementType != null) {
+                    arguments[i] = resolveMultiBinding(argument.genericType, argument.elementType, clazz);
+                } else {
+                    arguments[i] = argument.genericType == null ? resolveImplementation(argument.type, clazz) : resolveImplementation(argument.genericType, clazz);
+                }
+                if (arguments[i] == null) {
+                    throw new InjectorException(createInjectErrorMessage("No implementation found.", clazz, argument.parameter));
+                }
+            } else {
+                arguments[i] = resolveQualified(argument.type, argument.qualifier);
+                if (arguments[i] == null) {
+                    throw new InjectorException(createInjectErrorMessage(getMissingQualifiedReason(argument.type, argument.qualifier), clazz, argument.parameter));
+                }
+            }
+        }
+        return arguments;
+    }
+
     public <T> void addProvider(Provider<T> provider) {
-        Class<?> providedClass = GenericTypeResolver.resolve(Provider.class, provider.getClass(), 0);
-        add(providedClass, provider);
-        add(provider.getClass(), provider);
+        profile("addProvider", provider.getClass(), () -> {
+            Type providedType = GenericTypeResolver.getProvidedType(provider.getClass());
+            add(GenericTypeResolver.getRawType(providedType), provider);
+            addGenericType(providedType, provider);
+            add(provider.getClass(), provider);
+        });
     }
 
     public <T> void addProviderForSingleInstance(Provider<T> provider) {
-        Class<?> providedClass = GenericTypeResolver.resolve(Provider.class, provider.getClass(), 0);
-        add(providedClass, provider.get());
-        add(provider.getClass(), provider);
+        profile("addProviderForSingleInstance", provider.getClass(), () -> {
+            Type providedType = GenericTypeResolver.getProvidedType(provider.getClass());
+            Object instance = getSingleInstance(provider);
+            add(GenericTypeResolver.getRawType(providedType), instance);
+            addGenericType(providedType, instance);
+            add(provider.getClass(), provider);
+        });
+    }
+
+    private Object getSingleInstance(Provider<?> provider) {
+        StartupProfiler profiler = this.profiler;
+        if (profiler == null) {
+            return provider.get();
+        }
+
+        StartupProfiler.Frame frame = profiler.enter("get", provider.getClass());
+        try {
+            return provider.get();
+        } finally {
+            profiler.exit(frame);
+        }
     }
 
     public <T> void addProvider(PerClassProvider<T> provider) {
-        Class<?> providedClass = GenericTypeResolver.resolve(PerClassProvider.class, provider.getClass(), 0);
-        add(providedClass, provider);
-        add(provider.getClass(), provider);
+        addProvider(provider, false);
     }
 
-    private void add(Class<?> clazz, Object implementationOrProvider) {
-        if (clazz.isAnnotationPresent((Named.class))) {
-            Named named = clazz.getAnnotation(Named.class);
-            if (named.value().isEmpty()) {
-                add(clazz, implementationOrProvider, implementations::put);
-            } else {
-                add(named.value(), clazz);
+    public <T> void addProvider(PerClassProvider<T> provider, boolean cached) {
+        profile("addProvider", provider.getClass(), () -> {
+            if (provider instanceof CachingPerClassProvider) {
+                addProvider(((CachingPerClassProvider<T>) provider).getProvider(), true);
+                return;
             }
-        } else {
+
+            Type providedType = GenericTypeResolver.getPerClassProvidedType(provider.getClass());
+            PerClassProvider<T> perClassProvider = cached ? new CachingPerClassProvider<>(provider) : provider;
+            add(GenericTypeResolver.getRawType(providedType), perClassProvider);
+            addGenericType(providedType, perClassProvider);
+            add(provider.getClass(), provider);
+        });
+    }
+
+    void add(Class<?> clazz, Object implementationOrProvider) {
+        QualifierKey qualifier = getQualifier(clazz);
+        if (qualifier == null) {
             add(clazz, implementationOrProvider, implementations::put);
+            for (TypeKey type : TypeClosure.genericOf(clazz)) {
+                implementationsByGenericType.put(type, implementationOrProvider);
+            }
+            registrationsChanged();
+        } else {
+            add(qualifier, clazz, implementationOrProvider);
         }
     }
 
-    private void add(String name, Class<?> clazz, Object implementationOrProvider) {
+    private void add(QualifierKey qualifier, Class<?> clazz, Object implementationOrProvider) {
         add(clazz, implementationOrProvider, (c, i) -> {
-            Map<String, Object> implementationByName = implementationsByName.computeIfAbsent(c, (key) -> new HashMap<>());
-            implementationByName.put(name, implementationOrProvider);
+            Map<QualifierKey, Object> implementationByQualifier = implementationsByQualifier.computeIfAbsent(c, (key) -> new ConcurrentHashMap<>());
+            implementationByQualifier.put(qualifier, implementationOrProvider);
         });
     }
 
+    private void addGenericType(Type type, Object implementationOrProvider) {
+        TypeKey key = TypeKey.ofParameterized(type);
+        if (key != null) {
+            implementationsByGenericType.put(key, implementationOrProvider);
+            registrationsChanged();
+        }
+    }
+
+    private static QualifierKey getQualifier(Class<?> clazz) {
+        List<Annotation> qualifiers = QualifierKey.findQualifiers(clazz.getAnnotations());
+        if (qualifiers.isEmpty()) {
+            return null;
+        }
+        if (qualifiers.size() > 1) {
+            throw new InjectorException(clazz.getName() + " must not have more than one qualifier.");
+        }
+
+        QualifierKey qualifier = QualifierKey.of(qualifiers.get(0));
+        if (qualifier.equals(QualifierKey.named(""))) {
+            return null;
+        }
+        return qualifier;
+    }
+
     private void add(Class<?> clazz, Object implementationOrProvider, BiConsumer<Class<?>, Object> consumer) {
-        consumer.accept(clazz, implementationOrProvider);
+        checkNotSealed();
+        for (Class<?> type : TypeClosure.of(clazz)) {
+            consumer.accept(type, implementationOrProvider);
+        }
+        if (!clazz.isInterface() && clazz != Object.class) {
+            consumer.accept(Object.class, implementationOrProvider); // Every class is an Object, the last one wins
+        }
+        registrationsChanged();
+    }
+
+    public void addAll(Collection<?> implementations) {
+        profile("addAll", null, () -> addAllImplementations(implementations));
+    }
+
+    private void addAllImplementations(Collection<?> implementations) {
+        checkNotSealed();
 
-        for (Class<?> interfaceClass : clazz.getInterfaces()) {
-            consumer.accept(interfaceClass, implementationOrProvider);
+        Map<Class<?>, List<Object>> candidates = new HashMap<>();
+        Map<TypeKey, List<Object>> genericCandidates = new HashMap<>();
+        Object last = null;
+        for (Object implementation : implementations) {
+            QualifierKey qualifier = getQualifier(implementation.getClass());
+            if (qualifier != null) {
+                add(qualifier, implementation.getClass(), implementation);
+                continue;
+            }
+            last = implementation;
+
+            for (Class<?> type : TypeClosure.of(implementation.getClass())) {
+                candidates.computeIfAbsent(type, k -> new ArrayList<>(1)).add(implementation);
+            }
+            for (TypeKey type : TypeClosure.genericOf(implementation.getClass())) {
+                genericCandidates.computeIfAbsent(type, k -> new ArrayList<>(1)).add(implementation);
+            }
         }
 
-        if (clazz.getSuperclass() != null) {
-            add(clazz.getSuperclass(), implementationOrProvider, consumer);
+        Map<Class<?>, Object> registrations = new HashMap<>(candidates.size() + 1);
+        candidates.remove(Object.class);
+        candidates.forEach((type, implementationsOfType) -> registrations.put(type, selectCandidate(type, withRegistered(getImplementation(type), implementationsOfType))));
+        if (last != null) {
+            registrations.put(Object.class, last); // Every class is an Object, the last one wins like with add()
         }
+        this.implementations.putAll(registrations);
+
+        genericCandidates.forEach((type, implementationsOfType) -> {
+            List<Object> all = withRegistered(getExactImplementation(type), implementationsOfType);
+            implementationsByGenericType.put(type, all.size() == 1 ? all.get(0) : new AmbiguousDependency(type.toString(), all));
+        });
+        registrationsChanged();
+    }
+
+    // Earlier registrations compete with the batch, instead of being overwritten silently
+    private static List<Object> withRegistered(Object registered, List<Object> candidates) {
+        if (registered == null) {
+            return candidates;
+        }
+
+        List<Object> result = new ArrayList<>(candidates.size() + 1);
+        for (Object candidate : registered instanceof AmbiguousDependency ? ((AmbiguousDependency) registered).getCandidates() : List.of(registered)) {
+            if (candidates.stream().noneMatch(c -> c == candidate)) {
+                result.add(candidate);
+            }
+        }
+        result.addAll(candidates);
+        return result;
+    }
+
+    private Object selectCandidate(Class<?> type, List<Object> candidates) {
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+
+        Object exactMatch = null;
+        for (Object candidate : candidates) {
+            if (candidate.getClass() == type) {
+                if (exactMatch != null) {
+                    return new AmbiguousDependency(type.getName(), candidates);
+                }
+                exactMatch = candidate;
+            }
+        }
+
+        return exactMatch == null ? new AmbiguousDependency(type.getName(), candidates) : exactMatch;
     }
 
     public <T> T resolve(Class<T> clazz) {
         return resolveImplementation(clazz, null);
     }
 
+    <T> T resolve(Class<T> clazz, Class<?> requestingClass) {
+        return resolveImplementation(clazz, requestingClass);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T resolve(TypeLiteral<T> type) {
+        return (T) resolveImplementation(type.key, null);
+    }
+
+    public static void injectComponent(Object component, Class<?> declaringType) {
+        if (components.get(component.getClass())) {
+            InjectionPlan plan = InjectionPlan.of(declaringType);
+            Injector injector = getInstanceFor(plan);
+            if (injector != null) {
+                injector.inject(component, plan);
+            }
+        }
+    }
+
+    // Components without dependencies can also be created where no unit test injector is bound, like in static fields of a test
+    static Injector getInstanceFor(InjectionPlan plan) {
+        if (unitTestMode && plan.points.length == 0) {
+            return UnitTestInstanceHolder.find();
+        }
+        return getInstance();
+    }
+
+    static boolean isComponent(Class<?> type) {
+        return components.get(type);
+    }
+
     public void inject(Object instance, Class<?> declaringType) {
-        for (Field field : getInjectableFields(declaringType)) {
-            Object implementation = resolveImplementation(field, declaringType);
-            if (implementation == null) {
-                throw new InjectorException(createInjectErrorMessage("No implementation found.", declaringType, field));
+        inject(instance, getInjectionPlan(declaringType));
+    }
+
+    void inject(Object instance, InjectionPlan plan) {
+        Class<?> declaringType = plan.declaringType;
+        InjectorMetrics metrics = this.metrics;
+        StartupProfiler profiler = this.profiler;
+        InjectionEvent event = new InjectionEvent();
+        if (metrics == null && profiler == null && !event.isEnabled()) {
+            injectFields(instance, plan);
+            return;
+        }
+
+        StartupProfiler.Frame frame = profiler == null ? null : profiler.enter("inject", declaringType);
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            injectFields(instance, plan);
+        } finally {
+            if (metrics != null) {
+                metrics.recordInjection(declaringType, System.nanoTime() - start);
+            }
+            if (profiler != null) {
+                profiler.exit(frame);
             }
 
-            if (Modifier.isFinal(field.getModifiers())) {
-                throw new InjectorException(createInjectErrorMessage("@Inject field must not be final.", declaringType, field));
+            event.end();
+            if (event.shouldCommit()) {
+                event.declaringType = declaringType;
+                event.fieldCount = plan.points.length;
+                event.commit();
             }
+        }
+    }
 
-            try {
-                field.setAccessible(true);
-                field.set(instance, implementation);
-            } catch (IllegalAccessException e) {
-                throw new InjectorException(createInjectErrorMessage("Failed to access field.", declaringType, field), e);
+    private void injectFields(Object instance, InjectionPlan plan) {
+        Class<?> declaringType = plan.declaringType;
+        for (InjectionPoint point : plan.reflectivePoints) {
+            point.set(instance, resolveField(point, declaringType));
+        }
+        if (plan.generatedInjector != null) {
+            plan.generatedInjector.inject(instance, this);
+        }
+    }
+
+    // Called by generated injectors, the index refers to GeneratedInjector.getFieldNames()
+    public Object resolveGeneratedField(Class<?> declaringType, int fieldIndex) {
+        return resolveField(getInjectionPlan(declaringType).generatedPoints[fieldIndex], declaringType);
+    }
+
+    private Object resolveField(InjectionPoint point, Class<?> declaringType) {
+        if (point.lazy) {
+            return new LazyDependency<>(this, point, declaringType);
+        }
+        if (point.pooled) {
+            return resolvePool(point, declaringType);
+        }
+        return resolveRequired(point, declaringType);
+    }
+
+    Object resolveRequired(InjectionPoint point, Class<?> toBeInjectedIn) {
+        Object implementation = resolveImplementation(point, toBeInjectedIn);
+        if (implementation == null) {
+            throw new InjectorException(createInjectErrorMessage("No implementation found.", toBeInjectedIn, point.field));
+        }
+        return implementation;
+    }
+
+    private ObjectPool<?> resolvePool(InjectionPoint point, Class<?> toBeInjectedIn) {
+        Object pool = point.qualifier == null ? getImplementation(point.type) : resolveQualified(point.type, point.qualifier);
+        if (!(pool instanceof ObjectPool)) {
+            throw new InjectorException(createInjectErrorMessage("No pool found.", toBeInjectedIn, point.field));
+        }
+        return (ObjectPool<?>) pool;
+    }
+
+    Stream<ObjectPool<?>> getPools() {
+        InjectorSnapshot snapshot = view();
+        Stream<Object> qualified = snapshot.implementationsByQualifier.values().stream().flatMap(q -> q.values().stream());
+        return Stream.concat(Stream.concat(snapshot.implementations.values().stream(), snapshot.implementationsByGenericType.values().stream()), qualified)
+                .filter(i -> i instanceof ObjectPool)
+                .distinct()
+                .map(i -> (ObjectPool<?>) i);
+    }
+
+    public void verify() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        verify(ComponentIndex.load(classLoader == null ? Injector.class.getClassLoader() : classLoader));
+    }
+
+    public void verify(Collection<Class<?>> components) {
+        List<String> errors = new ArrayList<>();
+        Set<Class<?>> verified = new HashSet<>();
+        for (Class<?> component : components) {
+            for (Class<?> type = component; type != null && type != Object.class; type = type.getSuperclass()) {
+                if (verified.add(type)) {
+                    verify(type, errors);
+                }
             }
         }
+
+        if (!errors.isEmpty()) {
+            throw new InjectorException("Verification failed for " + errors.size() + " injection points:\n" + String.join("\n", errors));
+        }
+    }
+
+    private void verify(Class<?> type, List<String> errors) {
+        InjectionPlan plan;
+        try {
+            plan = getInjectionPlan(type);
+        } catch (InjectorException e) {
+            errors.add(e.getMessage());
+            return;
+        }
+
+        for (InjectionPoint point : plan.points) {
+            if (point.pooled) {
+                Object pool = point.qualifier == null ? getImplementation(point.type) : resolveQualified(point.type, point.qualifier);
+                if (!(pool instanceof ObjectPool)) {
+                    errors.add(createInjectErrorMessage("No pool found.", type, point.field));
+                }
+            } else if (point.qualifier != null) {
+                if (resolveQualified(point.type, point.qualifier) == null) {
+                    errors.add(createInjectErrorMessage(getMissingQualifiedReason(point.type, point.qualifier), type, point.field));
+                }
+            } else if (!isRegistered(point) && point.elementType == null) {
+                errors.add(createInjectErrorMessage("No implementation found.", type, point.field));
+            } else if (getImplementation(point) instanceof AmbiguousDependency) {
+                errors.add(createInjectErrorMessage(((AmbiguousDependency) getImplementation(point)).getReason(), type, point.field));
+            }
+        }
+    }
+
+    private boolean isRegistered(InjectionPoint point) {
+        SealedRegistry sealedRegistry = this.sealedRegistry;
+        if (sealedRegistry != null) {
+            return (point.genericType == null ? sealedRegistry.get(point.type) : sealedRegistry.get(point.genericType)) != Binding.NONE;
+        }
+        return getImplementation(point) != null;
+    }
+
+    public WarmUpReport warmUp() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return warmUp(ComponentIndex.load(classLoader == null ? Injector.class.getClassLoader() : classLoader));
+    }
+
+    public WarmUpReport warmUp(Collection<Class<?>> classes) {
+        WarmUpReport report = new WarmUpReport();
+        for (Class<?> clazz : classes) {
+            long start = System.nanoTime();
+            warmUp(clazz);
+            report.add(clazz, System.nanoTime() - start);
+        }
+        return report;
+    }
+
+    private void warmUp(Class<?> clazz) {
+        GeneratedInjectors.find(clazz);
+        if (Provider.class.isAssignableFrom(clazz)) {
+            GenericTypeResolver.getProvidedType(clazz);
+        }
+        if (PerClassProvider.class.isAssignableFrom(clazz)) {
+            GenericTypeResolver.getPerClassProvidedType(clazz);
+        }
+
+        for (Class<?> type = clazz; type != null && type != Object.class; type = type.getSuperclass()) {
+            // Resolving once also fills the lookup caches of a sealed injector
+            for (InjectionPoint point : getInjectionPlan(type).points) {
+                if (!point.lazy && !point.pooled && isResolvableWithoutSideEffects(point)) {
+                    resolveImplementation(point, type);
+                }
+            }
+        }
+    }
+
+    private boolean isResolvableWithoutSideEffects(InjectionPoint point) {
+        if (point.qualifier != null) {
+            return resolveQualified(point.type, point.qualifier) != null;
+        }
+
+        Object implementation = getImplementation(point);
+        return implementation != null && Binding.of(implementation, point.type) instanceof Binding.InstanceBinding;
     }
 
     public Stream<Object> getImplementations() {
-        return implementations.values().stream().distinct();
+        return Arrays.stream(getMultiBindings().all);
+    }
+
+    public <T> List<T> getImplementations(Class<T> type) {
+        return getMultiBindings().getList(type);
+    }
+
+    private MultiBindings getMultiBindings() {
+        int version = registrationVersion.get();
+        MultiBindings multiBindings = this.multiBindings;
+        if (multiBindings == null || multiBindings.version != version) {
+            multiBindings = new MultiBindings(version, snapshot());
+            this.multiBindings = multiBindings;
+        }
+        return multiBindings;
     }
 
-    private String createInjectErrorMessage(String reason, Class<?> type, Field field) {
+    private void registrationsChanged() {
+        registrationVersion.incrementAndGet();
+    }
+
+    static String createInjectErrorMessage(String reason, Class<?> type, Field field) {
         return reason + " Failed to inject " + field.getType().getName() + " " + field.getName() + " in " + type.getName();
     }
 
-    private String createInjectErrorMessage(String reason, Class<?> type, Parameter parameter) {
+    static String createInjectErrorMessage(String reason, Class<?> type, Parameter parameter) {
         return reason + " Failed to inject " + parameter.getType().getName() + " " + parameter.getName() + " in " + type.getName();
     }
 
     @SuppressWarnings("unchecked")
     private <T> T resolveImplementation(Class<T> clazz, Class<?> toBeInjectedIn) {
-        return (T)resolveImplementation(implementations.get(clazz), clazz, toBeInjectedIn);
+        SealedRegistry sealedRegistry = this.sealedRegistry;
+        if (sealedRegistry != null) {
+            return (T)sealedRegistry.get(clazz).resolve(toBeInjectedIn, metrics);
+        }
+        return (T)resolveImplementation(getImplementation(clazz), clazz, toBeInjectedIn);
     }
 
-    private Object resolveImplementation(Field field, Class<?> toBeInjectedIn) {
-        if (field.isAnnotationPresent(Named.class)) {
-            String name = field.getAnnotation(Named.class).value();
-            return resolveImplementationByName(field, toBeInjectedIn, name, true);
+    private Object resolveImplementation(TypeKey type, Class<?> toBeInjectedIn) {
+        SealedRegistry sealedRegistry = this.sealedRegistry;
+        if (sealedRegistry != null) {
+            return sealedRegistry.get(type).resolve(toBeInjectedIn, metrics);
         }
+        return resolveImplementation(getImplementation(type), type.rawType, toBeInjectedIn);
+    }
 
-        Object implementation = resolveImplementation(field.getType(), toBeInjectedIn);
-        if (implementation == null && unitTestMode && resolveUnitTestDependencies) {
-            implementation = resolveImplementationForUnitTest(field, toBeInjectedIn);
+    private Object resolveMultiBinding(TypeKey type, Class<?> elementType, Class<?> toBeInjectedIn) {
+        // Collections are only bound by their exact type, a raw List may contain anything
+        SealedRegistry sealedRegistry = this.sealedRegistry;
+        Object implementation = sealedRegistry == null ? resolveImplementation(getExactImplementation(type), type.rawType, toBeInjectedIn) : sealedRegistry.getExact(type).resolve(toBeInjectedIn, metrics);
+        if (implementation == null) {
+            implementation = getMultiBindings().get(type.rawType, elementType);
         }
+        return implementation;
+    }
 
+    private Object getImplementation(InjectionPoint point) {
+        if (point.elementType != null) {
+            return getExactImplementation(point.genericType);
+        }
+        return point.genericType == null ? getImplementation(point.type) : getImplementation(point.genericType);
+    }
+
+    private Object getExactImplementation(TypeKey type) {
+        Object implementation = implementationsByGenericType.get(type);
+        if (implementation == null) {
+            InjectorSnapshot baseline = this.baseline;
+            if (baseline != null) {
+                implementation = baseline.implementationsByGenericType.get(type);
+            }
+        }
         return implementation;
     }
 
-    private Object resolveImplementationForUnitTest(Field field, Class<?> toBeInjectedIn) {
-        if (field.getType().isInterface()) {
-            return resolveImplementationForInterfaceInUnitTest(field, toBeInjectedIn);
-        } else {
-            return resolveImplementationForClassInUnitTest(field, toBeInjectedIn);
+    private Object getImplementation(TypeKey type) {
+        Object implementation = getExactImplementation(type);
+        if (implementation == null) {
+            // Falls back to the raw type, unless that is bound to another instantiation
+            implementation = getImplementation(type.rawType);
+            if (implementation != null && type.conflictsWith(implementation)) {
+                return null;
+            }
         }
+        return implementation;
     }
 
-    private Object resolveImplementationForInterfaceInUnitTest(Field field, Class<?> toBeInjectedIn) {
-        try {
-            Class<?> trainerClass = getClass().getClassLoader().loadClass(field.getType().getName() + "Trainer");
-            try {
-                Object implementation = trainerClass.getConstructor().newInstance();
-                add(implementation);
-                return implementation;
-            } catch (Exception e) {
-                throw new InjectorException(createInjectErrorMessage("Failed to instantiate trainer " + trainerClass.getName(), toBeInjectedIn, field));
+    private Object getImplementation(Class<?> type) {
+        Object implementation = implementations.get(type);
+        if (implementation == null) {
+            InjectorSnapshot baseline = this.baseline;
+            if (baseline != null) {
+                return baseline.implementations.get(type);
             }
-        } catch (ClassNotFoundException e) {
-            throw new InjectorException(createInjectErrorMessage("No trainer found for interface " + field.getType().getName(), toBeInjectedIn, field));
         }
+        return implementation;
     }
 
-    private Object resolveImplementationForClassInUnitTest(Field field, Class<?> toBeInjectedIn) {
+    private Object resolveImplementation(InjectionPoint point, Class<?> toBeInjectedIn) {
+        if (point.qualifier != null) {
+            Object implementation = resolveQualified(point.type, point.qualifier);
+            if (implementation == null) {
+                throw new InjectorException(createInjectErrorMessage(getMissingQualifiedReason(point.type, point.qualifier), toBeInjectedIn, point.field));
+            }
+            return implementation;
+        }
+
+        Object implementation;
+        if (point.elementType != null) {
+            implementation = resolveMultiBinding(point.genericType, point.elementType, toBeInjectedIn);
+        } else {
+            implementation = point.genericType == null ? resolveImplementation(point.type, toBeInjectedIn) : resolveImplementation(point.genericType, toBeInjectedIn);
+        }
+        if (implementation == null && unitTestMode && resolveUnitTestDependencies) {
+            implementation = resolveImplementationForUnitTest(point, toBeInjectedIn);
+        }
+
+        return implementation;
+    }
+
+    private Object resolveImplementationForUnitTest(InjectionPoint point, Class<?> toBeInjectedIn) {
+        if (point.type.isInterface()) {
+            return resolveImplementationForInterfaceInUnitTest(point, toBeInjectedIn);
+        } else {
+            return resolveImplementationForClassInUnitTest(point, toBeInjectedIn);
+        }
+    }
+
+    private Object resolveImplementationForInterfaceInUnitTest(InjectionPoint point, Class<?> toBeInjectedIn) {
+        Class<?> trainerClass = TrainerClasses.find(point.type);
+        if (trainerClass == null) {
+            throw new InjectorException(createInjectErrorMessage("No trainer found for interface " + point.type.getName(), toBeInjectedIn, point.field));
+        }
+
         try {
-            Object implementation = field.getType().getConstructor().newInstance();
+            Object implementation = trainerClass.getConstructor().newInstance();
             add(implementation);
             return implementation;
         } catch (Exception e) {
-            throw new InjectorException(createInjectErrorMessage("Failed to instantiate test dependency, you probably need to call givenDependency() manually.", toBeInjectedIn, field), e);
+            throw new InjectorException(createInjectErrorMessage("Failed to instantiate trainer " + trainerClass.getName(), toBeInjectedIn, point.field));
         }
     }
 
-    private Object resolveImplementationByName(Field field, Class<?> toBeInjectedIn, String name, boolean failIfMissing) {
-        Map<String, Object> implementationByName = implementationsByName.get(field.getType());
-        if (implementationByName == null) {
-            if (failIfMissing) {
-                throw new InjectorException(createInjectErrorMessage("No dependency named " + name + ".", toBeInjectedIn, field));
-            } else {
-                return null;
-            }
+    private Object resolveImplementationForClassInUnitTest(InjectionPoint point, Class<?> toBeInjectedIn) {
+        try {
+            Object implementation = point.type.getConstructor().newInstance();
+            add(implementation);
+            return implementation;
+        } catch (Exception e) {
+            throw new InjectorException(createInjectErrorMessage("Failed to instantiate test dependency, you probably need to call givenDependency() manually.", toBeInjectedIn, point.field), e);
         }
+    }
 
-        Object implementation = implementationByName.get(name);
+    private Object resolveQualified(Class<?> type, QualifierKey qualifier) {
+        Map<QualifierKey, Object> implementationByQualifier = implementationsByQualifier.get(type);
+        Object implementation = implementationByQualifier == null ? null : implementationByQualifier.get(qualifier);
         if (implementation == null) {
-            if (failIfMissing) {
-                TreeSet<String> available = new TreeSet<>(implementationByName.keySet());
-                throw new InjectorException(createInjectErrorMessage("No dependency named " + name + ", got " + available + ".", toBeInjectedIn, field));
-            } else {
-                return null;
+            InjectorSnapshot baseline = this.baseline;
+            if (baseline != null) {
+                return baseline.getQualified(type).get(qualifier);
             }
         }
         return implementation;
     }
 
-    private List<Field> getInjectableFields(Class<?> type) {
-        List<Field> fields = injectableFields.get(type);
-        if (fields == null) {
-            fields = calculateInjectableFields(type);
-            injectableFields.put(type, fields);
+    private String getMissingQualifiedReason(Class<?> type, QualifierKey qualifier) {
+        TreeSet<String> available = new TreeSet<>();
+        Map<QualifierKey, Object> implementationByQualifier = implementationsByQualifier.get(type);
+        if (implementationByQualifier != null) {
+            for (QualifierKey key : implementationByQualifier.keySet()) {
+                available.add(key.toString());
+            }
         }
-        return fields;
-    }
-
-    private List<Field> calculateInjectableFields(Class<?> type) {
-        List<Field> fields = new ArrayList<>();
-        for (Field field : type.getDeclaredFields()) {
-            if (field.isAnnotationPresent(Inject.class)) {
-                fields.add(field);
+        InjectorSnapshot baseline = this.baseline;
+        if (baseline != null) {
+            for (QualifierKey key : baseline.getQualified(type).keySet()) {
+                available.add(key.toString());
             }
         }
-        return fields;
+
+        if (available.isEmpty()) {
+            return "No dependency " + qualifier.describe() + ".";
+        }
+        return "No dependency " + qualifier.describe() + ", got " + available + ".";
+    }
+
+    InjectionPlan getInjectionPlan(Class<?> type) {
+        return InjectionPlan.of(type);
     }
 
     private Object resolveImplementation(Object implementation, Class<?> requestedClass, Class<?> toBeInjectedIn) {
+        if (implementation instanceof AmbiguousDependency) {
+            throw ((AmbiguousDependency) implementation).createException();
+        }
+        if (implementation instanceof ObjectPool) {
+            throw ((ObjectPool<?>) implementation).createNotPooledException();
+        }
         if (toBeInjectedIn != null && implementation instanceof PerClassProvider && !PerClassProvider.class.isAssignableFrom(requestedClass)) {
-            return ((PerClassProvider<?>)implementation).get(toBeInjectedIn);
+            return Binding.get((PerClassProvider<?>)implementation, requestedClass, toBeInjectedIn, metrics);
         }
         if (implementation instanceof Provider && !Provider.class.isAssignableFrom(requestedClass)) {
-            return ((Provider<?>)implementation).get();
+            return Binding.get((Provider<?>)implementation, requestedClass, toBeInjectedIn, metrics);
         }
         return implementation;
     }
 
+    public synchronized InjectorMetrics enableMetrics() {
+        if (metrics == null) {
+            metrics = new InjectorMetrics(this);
+        }
+        return metrics;
+    }
+
+    public void disableMetrics() {
+        metrics = null;
+    }
+
+    public InjectorMetrics getMetrics() {
+        return metrics;
+    }
+
+    public StartupProfiler enableStartupProfiling() {
+        return enableStartupProfiling(null);
+    }
+
+    public synchronized StartupProfiler enableStartupProfiling(Consumer<StartupReport> onBootstrapCompleted) {
+        profiler = new StartupProfiler(onBootstrapCompleted);
+        return profiler;
+    }
+
+    public void disableStartupProfiling() {
+        profiler = null;
+    }
+
+    private synchronized void detachStartupProfiler(StartupProfiler profiler) {
+        if (this.profiler == profiler) {
+            this.profiler = null;
+        }
+    }
+
+    public StartupProfiler getStartupProfiler() {
+        return profiler;
+    }
+
+    int getRegistrySize() {
+        return view().size();
+    }
+
+    public InjectorSnapshot snapshot() {
+        return InjectorSnapshot.merge(baseline, implementations, implementationsByQualifier, implementationsByGenericType, requestScopedSlots);
+    }
+
+    // Read only view of all registrations, copies only when a baseline needs to be merged
+    private InjectorSnapshot view() {
+        InjectorSnapshot baseline = this.baseline;
+        if (baseline == null) {
+            return new InjectorSnapshot(implementations, implementationsByQualifier, implementationsByGenericType, requestScopedSlots);
+        }
+        return snapshot();
+    }
+
+    public static InjectorSnapshot createSnapshot(Consumer<Injector> setup) {
+        Injector injector = new Injector();
+        injector.inContext(() -> setup.accept(injector)).run();
+        return injector.snapshot();
+    }
+
+    public synchronized void seal() {
+        if (sealedRegistry == null) {
+            sealedRegistry = createSealedRegistry();
+        }
+    }
+
+    private SealedRegistry createSealedRegistry() {
+        if (baseline == null) {
+            return new SealedRegistry(implementations, implementationsByGenericType);
+        }
+        InjectorSnapshot snapshot = snapshot();
+        return new SealedRegistry(snapshot.implementations, snapshot.implementationsByGenericType);
+    }
+
+    public boolean isSealed() {
+        return sealedRegistry != null;
+    }
+
+    private void checkNotSealed() {
+        if (sealedRegistry != null) {
+            throw new InjectorException("Injector is sealed, no more dependencies can be added.");
+        }
+    }
+
+    public synchronized int evict(ClassLoader classLoader) {
+        if (classLoader == null) {
+            throw new InjectorException("The bootstrap class loader cannot be evicted.");
+        }
+
+        int evicted = evict(implementations, implementationsByQualifier, implementationsByGenericType, classLoader);
+
+        InjectorSnapshot baseline = this.baseline;
+        if (baseline != null) {
+            InjectorSnapshot copy = InjectorSnapshot.merge(baseline, Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap(), baseline.requestScopedSlots);
+            int evictedFromBaseline = evict(copy.implementations, copy.implementationsByQualifier, copy.implementationsByGenericType, classLoader);
+            if (evictedFromBaseline > 0) {
+                this.baseline = copy;
+                evicted += evictedFromBaseline;
+            }
+        }
+
+        if (sealedRegistry != null && evicted > 0) {
+            sealedRegistry = createSealedRegistry();
+        }
+
+        InjectorMetrics metrics = this.metrics;
+        if (metrics != null) {
+            metrics.evict(classLoader);
+        }
+        InjectionPlan.evict(classLoader);
+
+        // Drops the index right away, it must not keep the class loader reachable
+        multiBindings = null;
+        registrationsChanged();
+
+        return evicted;
+    }
+
+    private static int evict(Map<Class<?>, Object> implementations, Map<Class<?>, Map<QualifierKey, Object>> implementationsByQualifier, Map<TypeKey, Object> implementationsByGenericType, ClassLoader classLoader) {
+        int evicted = 0;
+        for (Iterator<Map.Entry<Class<?>, Object>> it = implementations.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Class<?>, Object> entry = it.next();
+            if (isLoadedBy(entry.getKey(), entry.getValue(), classLoader)) {
+                it.remove();
+                ++evicted;
+            }
+        }
+
+        for (Iterator<Map.Entry<Class<?>, Map<QualifierKey, Object>>> it = implementationsByQualifier.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Class<?>, Map<QualifierKey, Object>> entry = it.next();
+            for (Iterator<Map.Entry<QualifierKey, Object>> qualified = entry.getValue().entrySet().iterator(); qualified.hasNext(); ) {
+                Map.Entry<QualifierKey, Object> qualifiedEntry = qualified.next();
+                if (qualifiedEntry.getKey().isLoadedBy(classLoader) || isLoadedBy(entry.getKey(), qualifiedEntry.getValue(), classLoader)) {
+                    qualified.remove();
+                    ++evicted;
+                }
+            }
+            if (entry.getValue().isEmpty()) {
+                it.remove();
+            }
+        }
+
+        for (Iterator<Map.Entry<TypeKey, Object>> it = implementationsByGenericType.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<TypeKey, Object> entry = it.next();
+            if (entry.getKey().isLoadedBy(classLoader) || isLoadedBy(entry.getKey().rawType, entry.getValue(), classLoader)) {
+                it.remove();
+                ++evicted;
+            }
+        }
+
+        return evicted;
+    }
+
+    private static boolean isLoadedBy(Class<?> type, Object implementation, ClassLoader classLoader) {
+        if (ClassLoaders.isLoadedBy(type, classLoader) || ClassLoaders.isLoadedBy(implementation.getClass(), classLoader)) {
+            return true;
+        }
+        if (implementation instanceof AmbiguousDependency) {
+            return ((AmbiguousDependency) implementation).isLoadedBy(classLoader);
+        }
+        if (implementation instanceof RequestScopedProvider) {
+            return ((RequestScopedProvider<?>) implementation).isLoadedBy(classLoader);
+        }
+        if (implementation instanceof CachingPerClassProvider) {
+            return ClassLoaders.isLoadedBy(((CachingPerClassProvider<?>) implementation).getProvider().getClass(), classLoader);
+        }
+        if (implementation instanceof ObjectPool) {
+            return ClassLoaders.isLoadedBy(((ObjectPool<?>) implementation).type, classLoader);
+        }
+        return false;
+    }
+
+    public InjectorFootprint getFootprint() {
+        InjectorSnapshot snapshot = view();
+
+        Map<String, Integer> registrationsByClassLoader = new TreeMap<>();
+        snapshot.implementations.keySet().forEach(type -> registrationsByClassLoader.merge(ClassLoaders.getName(type.getClassLoader()), 1, Integer::sum));
+        snapshot.implementationsByQualifier.forEach((type, qualified) -> registrationsByClassLoader.merge(ClassLoaders.getName(type.getClassLoader()), qualified.size(), Integer::sum));
+        snapshot.implementationsByGenericType.keySet().forEach(type -> registrationsByClassLoader.merge(ClassLoaders.getName(type.rawType.getClassLoader()), 1, Integer::sum));
+
+        int injectionPlans = 0;
+        int injectionPoints = 0;
+        for (Class<?> type : InjectionPlan.getPlannedTypes()) {
+            ++injectionPlans;
+            injectionPoints += InjectionPlan.of(type).points.length;
+        }
+
+        int qualifiedRegistrations = snapshot.implementationsByQualifier.values().stream().mapToInt(Map::size).sum();
+        return new InjectorFootprint(snapshot.size(), qualifiedRegistrations, injectionPlans, injectionPoints, registrationsByClassLoader);
+    }
+
     public void reset() {
+        InjectorMetrics metrics = this.metrics;
+        if (metrics != null) {
+            metrics.reset();
+        }
+        sealedRegistry = null;
+        profiler = null;
+        baseline = null;
         implementations.clear();
-        implementationsByName.clear();
+        implementationsByQualifier.clear();
+        implementationsByGenericType.clear();
+        requestScopedSlots = new RequestScopedSlots();
+        multiBindings = null;
+        registrationsChanged();
+    }
+
+    public void reset(InjectorSnapshot baseline) {
+        reset();
+        this.baseline = baseline;
+        this.requestScopedSlots = baseline == null ? new RequestScopedSlots() : baseline.requestScopedSlots;
+        registrationsChanged();
     }
 
     public static void enableUnitTestMode() {
@@ -276,10 +1125,77 @@ public class Injector {
 
     public static void enableUnitTestMode(boolean resolveUnitTestDependencies) {
         unitTestMode = true;
+        UnitTestInstanceHolder.bind();
         getInstance().resolveUnitTestDependencies = resolveUnitTestDependencies;
     }
 
+    public static void addTrainerNamingStrategy(TrainerNamingStrategy namingStrategy) {
+        TrainerClasses.addNamingStrategy(namingStrategy);
+    }
+
+    public static void removeTrainerNamingStrategy(TrainerNamingStrategy namingStrategy) {
+        TrainerClasses.removeNamingStrategy(namingStrategy);
+    }
+
+    public static void releaseUnitTestInstance() {
+        UnitTestInstanceHolder.release();
+    }
+
     private static class UnitTestInstanceHolder {
-        static final ThreadLocal<Injector> unitTestInstance = ThreadLocal.withInitial(Injector::new);
+        // Inherited, so that threads started during a test see its injector. Releasing the test closes the context for all of them
+        static final InheritableThreadLocal<Context> context = new InheritableThreadLocal<>();
+
+        static Injector find() {
+            Context current = context.get();
+            return current == null ? null : current.injector;
+        }
+
+        static Injector get() {
+            Injector injector = find();
+            if (injector == null) {
+                throw new InjectorException("No unit test injector is bound to thread " + Thread.currentThread().getName() + ". Enable unit test mode before the test or run the task with Injector.wrap().");
+            }
+            return injector;
+        }
+
+        // Threads inherit the context of the thread that started them, a test thread needs its own
+        static void bind() {
+            Context current = context.get();
+            if (current == null || current.owner != Thread.currentThread() || current.injector == null) {
+                context.set(new Context(new Injector()));
+            }
+        }
+
+        static Context enter(Injector injector) {
+            Context previous = context.get();
+            context.set(new Context(injector));
+            return previous;
+        }
+
+        static void exit(Context previous) {
+            context.get().injector = null;
+            if (previous == null) {
+                context.remove();
+            } else {
+                context.set(previous);
+            }
+        }
+
+        static void release() {
+            Context current = context.get();
+            if (current != null && current.owner == Thread.currentThread()) {
+                current.injector = null;
+            }
+            context.remove();
+        }
+
+        static final class Context {
+            final Thread owner = Thread.currentThread();
+            volatile Injector injector;
+
+            Context(Injector injector) {
+                this.injector = injector;
+            }
+        }
     }
 }
@@ -5,7 +5,6 @@ import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
 import org.aspectj.lang.annotation.Pointcut;
-import org.aspectj.lang.reflect.ConstructorSignature;
 
 @Aspect
 public class InjectorAspect {
@@ -18,12 +17,10 @@ public class InjectorAspect {
     public void constructor() {
     }
 
-    @Before("typeAnnotatedWithComponent() && constructor()")
-    public void inject(JoinPoint joinPoint) {
-        if (joinPoint.getThis().getClass().isAnnotationPresent(Component.class)) {
-            ConstructorSignature signature = (ConstructorSignature) joinPoint.getStaticPart().getSignature();
-            Injector.getInstance().inject(joinPoint.getThis(), signature.getDeclaringType());
-        }
+    // Only static join point information and this() are used, so AspectJ does not create a JoinPoint per construction
+    @Before("typeAnnotatedWithComponent() && constructor() && this(component)")
+    public void inject(JoinPoint.StaticPart staticPart, Object component) {
+        Injector.injectComponent(component, staticPart.getSignature().getDeclaringType());
     }
 
 }
@@ -0,0 +1,47 @@
+package org.jusecase.inject;
+
+import java.util.Map;
+
+public final class InjectorFootprint {
+    private final int registrations;
+    private final int qualifiedRegistrations;
+    private final int injectionPlans;
+    private final int injectionPoints;
+    private final Map<String, Integer> registrationsByClassLoader;
+
+    InjectorFootprint(int registrations, int qualifiedRegistrations, int injectionPlans, int injectionPoints, Map<String, Integer> registrationsByClassLoader) {
+        this.registrations = registrations;
+        this.qualifiedRegistrations = qualifiedRegistrations;
+        this.injectionPlans = injectionPlans;
+        this.injectionPoints = injectionPoints;
+        this.registrationsByClassLoader = registrationsByClassLoader;
+    }
+
+    public int getRegistrations() {
+        return registrations;
+    }
+
+    public int getQualifiedRegistrations() {
+        return qualifiedRegistrations;
+    }
+
+    /**
+     * Injection plans are shared by all injectors and released together with their classes.
+     */
+    public int getInjectionPlans() {
+        return injectionPlans;
+    }
+
+    public int getInjectionPoints() {
+        return injectionPoints;
+    }
+
+    public Map<String, Integer> getRegistrationsByClassLoader() {
+        return registrationsByClassLoader;
+    }
+
+    @Override
+    public String toString() {
+        return registrations + " registrations (" + qualifiedRegistrations + " qualified), " + injectionPlans + " injection plans with " + injectionPoints + " injection points, registrations by class loader: " + registrationsByClassLoader;
+    }
+}
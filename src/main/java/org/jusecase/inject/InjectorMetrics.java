@@ -0,0 +1,160 @@
+package org.jusecase.inject;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+
+public class InjectorMetrics implements InjectorMetricsMXBean {
+    public static final String DEFAULT_OBJECT_NAME = "org.jusecase.inject:type=InjectorMetrics";
+
+    private final Injector injector;
+    private final Map<Class<?>, LatencyHistogram> injections = new ConcurrentHashMap<>();
+    private final Map<Class<?>, LatencyHistogram> providerCalls = new ConcurrentHashMap<>();
+
+    InjectorMetrics(Injector injector) {
+        this.injector = injector;
+    }
+
+    void recordInjection(Class<?> declaringType, long nanos) {
+        record(injections, declaringType, nanos);
+    }
+
+    void recordProviderCall(Object provider, long nanos) {
+        record(providerCalls, provider.getClass(), nanos);
+    }
+
+    private static void record(Map<Class<?>, LatencyHistogram> histograms, Class<?> type, long nanos) {
+        LatencyHistogram histogram = histograms.get(type);
+        if (histogram == null) {
+            histogram = histograms.computeIfAbsent(type, t -> new LatencyHistogram());
+        }
+        histogram.record(nanos);
+    }
+
+    public Map<Class<?>, LatencySnapshot> getInjections() {
+        return snapshot(injections);
+    }
+
+    public Map<Class<?>, LatencySnapshot> getProviderCalls() {
+        return snapshot(providerCalls);
+    }
+
+    private static Map<Class<?>, LatencySnapshot> snapshot(Map<Class<?>, LatencyHistogram> histograms) {
+        Map<Class<?>, LatencySnapshot> result = new TreeMap<>((a, b) -> a.getName().compareTo(b.getName()));
+        histograms.forEach((type, histogram) -> result.put(type, histogram.snapshot()));
+        return result;
+    }
+
+    @Override
+    public int getRegistrySize() {
+        return injector.getRegistrySize();
+    }
+
+    public Map<Class<?>, PoolSnapshot> getPools() {
+        Map<Class<?>, PoolSnapshot> result = new TreeMap<>((a, b) -> a.getName().compareTo(b.getName()));
+        injector.getPools().forEach(pool -> result.put(pool.type, pool.snapshot()));
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> getInjectionCounts() {
+        return toJmx(injections, LatencySnapshot::getCount);
+    }
+
+    @Override
+    public Map<String, Long> getInjectionTimeNanos() {
+        return toJmx(injections, s -> s.getTotalTime().toNanos());
+    }
+
+    @Override
+    public Map<String, Long> getProviderCallCounts() {
+        return toJmx(providerCalls, LatencySnapshot::getCount);
+    }
+
+    @Override
+    public Map<String, Long> getProviderCallTimeNanos() {
+        return toJmx(providerCalls, s -> s.getTotalTime().toNanos());
+    }
+
+    @Override
+    public Map<String, Long> getProviderCallP99Nanos() {
+        return toJmx(providerCalls, s -> s.getPercentile(99).toNanos());
+    }
+
+    @Override
+    public Map<String, Long> getPoolHits() {
+        return toPoolJmx(PoolSnapshot::getHits);
+    }
+
+    @Override
+    public Map<String, Long> getPoolMisses() {
+        return toPoolJmx(PoolSnapshot::getMisses);
+    }
+
+    @Override
+    public Map<String, Long> getPoolContention() {
+        return toPoolJmx(PoolSnapshot::getContention);
+    }
+
+    private Map<String, Long> toPoolJmx(ToLongFunction<PoolSnapshot> value) {
+        Map<String, Long> result = new TreeMap<>();
+        getPools().forEach((type, pool) -> result.put(type.getName(), value.applyAsLong(pool)));
+        return result;
+    }
+
+    private static Map<String, Long> toJmx(Map<Class<?>, LatencyHistogram> histograms, ToLongFunction<LatencySnapshot> value) {
+        Map<String, Long> result = new TreeMap<>();
+        histograms.forEach((type, histogram) -> result.put(type.getName(), value.applyAsLong(histogram.snapshot())));
+        return result;
+    }
+
+    void evict(ClassLoader classLoader) {
+        injections.keySet().removeIf(type -> ClassLoaders.isLoadedBy(type, classLoader));
+        providerCalls.keySet().removeIf(type -> ClassLoaders.isLoadedBy(type, classLoader));
+    }
+
+    @Override
+    public void reset() {
+        injections.clear();
+        providerCalls.clear();
+        injector.getPools().forEach(ObjectPool::resetStatistics);
+    }
+
+    public void registerMBean() {
+        registerMBean(DEFAULT_OBJECT_NAME);
+    }
+
+    public void registerMBean(String objectName) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(objectName);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(this, name);
+        } catch (JMException e) {
+            throw new InjectorException("Failed to register injector metrics as " + objectName, e);
+        }
+    }
+
+    public void unregisterMBean() {
+        unregisterMBean(DEFAULT_OBJECT_NAME);
+    }
+
+    public void unregisterMBean(String objectName) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(objectName);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException e) {
+            throw new InjectorException("Failed to unregister injector metrics " + objectName, e);
+        }
+    }
+}
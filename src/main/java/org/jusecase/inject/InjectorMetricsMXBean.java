@@ -0,0 +1,25 @@
+package org.jusecase.inject;
+
+import java.util.Map;
+
+public interface InjectorMetricsMXBean {
+    int getRegistrySize();
+
+    Map<String, Long> getInjectionCounts();
+
+    Map<String, Long> getInjectionTimeNanos();
+
+    Map<String, Long> getProviderCallCounts();
+
+    Map<String, Long> getProviderCallTimeNanos();
+
+    Map<String, Long> getProviderCallP99Nanos();
+
+    Map<String, Long> getPoolHits();
+
+    Map<String, Long> getPoolMisses();
+
+    Map<String, Long> getPoolContention();
+
+    void reset();
+}
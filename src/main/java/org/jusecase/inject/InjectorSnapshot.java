@@ -0,0 +1,47 @@
+package org.jusecase.inject;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+public final class InjectorSnapshot {
+    final Map<Class<?>, Object> implementations;
+    final Map<Class<?>, Map<QualifierKey, Object>> implementationsByQualifier;
+    final Map<TypeKey, Object> implementationsByGenericType;
+    final RequestScopedSlots requestScopedSlots;
+
+    InjectorSnapshot(Map<Class<?>, Object> implementations, Map<Class<?>, Map<QualifierKey, Object>> implementationsByQualifier, Map<TypeKey, Object> implementationsByGenericType, RequestScopedSlots requestScopedSlots) {
+        this.implementations = implementations;
+        this.implementationsByQualifier = implementationsByQualifier;
+        this.implementationsByGenericType = implementationsByGenericType;
+        this.requestScopedSlots = requestScopedSlots;
+    }
+
+    static InjectorSnapshot merge(InjectorSnapshot baseline, Map<Class<?>, Object> implementations, Map<Class<?>, Map<QualifierKey, Object>> implementationsByQualifier, Map<TypeKey, Object> implementationsByGenericType, RequestScopedSlots requestScopedSlots) {
+        Map<Class<?>, Object> mergedImplementations = baseline == null ? new HashMap<>() : new HashMap<>(baseline.implementations);
+        mergedImplementations.putAll(implementations);
+
+        Map<Class<?>, Map<QualifierKey, Object>> mergedImplementationsByQualifier = new HashMap<>();
+        if (baseline != null) {
+            baseline.implementationsByQualifier.forEach((type, qualified) -> mergedImplementationsByQualifier.put(type, new HashMap<>(qualified)));
+        }
+        implementationsByQualifier.forEach((type, qualified) -> mergedImplementationsByQualifier.computeIfAbsent(type, k -> new HashMap<>()).putAll(qualified));
+
+        Map<TypeKey, Object> mergedImplementationsByGenericType = baseline == null ? new HashMap<>() : new HashMap<>(baseline.implementationsByGenericType);
+        mergedImplementationsByGenericType.putAll(implementationsByGenericType);
+
+        return new InjectorSnapshot(mergedImplementations, mergedImplementationsByQualifier, mergedImplementationsByGenericType, requestScopedSlots);
+    }
+
+    Map<QualifierKey, Object> getQualified(Class<?> type) {
+        return implementationsByQualifier.getOrDefault(type, Collections.emptyMap());
+    }
+
+    public int size() {
+        int size = implementations.size() + implementationsByGenericType.size();
+        for (Map<QualifierKey, Object> qualified : implementationsByQualifier.values()) {
+            size += qualified.size();
+        }
+        return size;
+    }
+}
@@ -0,0 +1,32 @@
+package org.jusecase.inject;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+class LatencyHistogram {
+    private final LongAdder[] buckets = new LongAdder[Long.SIZE + 1];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    LatencyHistogram() {
+        for (int i = 0; i < buckets.length; ++i) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    void record(long nanos) {
+        buckets[Long.SIZE - Long.numberOfLeadingZeros(Math.max(nanos, 0))].increment();
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    LatencySnapshot snapshot() {
+        long[] bucketCounts = new long[buckets.length];
+        for (int i = 0; i < buckets.length; ++i) {
+            bucketCounts[i] = buckets[i].sum();
+        }
+        return new LatencySnapshot(count.sum(), totalNanos.sum(), maxNanos.get(), bucketCounts);
+    }
+}
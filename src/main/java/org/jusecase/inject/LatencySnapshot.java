@@ -0,0 +1,53 @@
+package org.jusecase.inject;
+
+import java.time.Duration;
+
+public class LatencySnapshot {
+    private final long count;
+    private final long totalNanos;
+    private final long maxNanos;
+    private final long[] buckets;
+
+    LatencySnapshot(long count, long totalNanos, long maxNanos, long[] buckets) {
+        this.count = count;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+        this.buckets = buckets;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public Duration getTotalTime() {
+        return Duration.ofNanos(totalNanos);
+    }
+
+    public Duration getMaxTime() {
+        return Duration.ofNanos(maxNanos);
+    }
+
+    public Duration getAverageTime() {
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos / count);
+    }
+
+    /**
+     * Upper bound of the power of two bucket that contains the given percentile (0-100).
+     */
+    public Duration getPercentile(double percentile) {
+        long rank = (long) Math.ceil(count * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < buckets.length; ++i) {
+            seen += buckets[i];
+            if (seen >= rank && seen > 0) {
+                return Duration.ofNanos(Math.min(i == 0 ? 0 : (1L << Math.min(i, 62)) - 1, maxNanos));
+            }
+        }
+        return Duration.ZERO;
+    }
+
+    @Override
+    public String toString() {
+        return "count=" + count + ", avg=" + getAverageTime().toNanos() + "ns, p99=" + getPercentile(99).toNanos() + "ns, max=" + maxNanos + "ns";
+    }
+}
@@ -0,0 +1,5 @@
+package org.jusecase.inject;
+
+public interface Lazy<T> {
+    T get();
+}
@@ -0,0 +1,30 @@
+package org.jusecase.inject;
+
+class LazyDependency<T> implements Lazy<T> {
+    private final Injector injector;
+    private final InjectionPoint point;
+    private final Class<?> toBeInjectedIn;
+    private volatile T implementation;
+
+    LazyDependency(Injector injector, InjectionPoint point, Class<?> toBeInjectedIn) {
+        this.injector = injector;
+        this.point = point;
+        this.toBeInjectedIn = toBeInjectedIn;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get() {
+        T implementation = this.implementation;
+        if (implementation == null) {
+            synchronized (this) {
+                implementation = this.implementation;
+                if (implementation == null) {
+                    implementation = (T) injector.resolveRequired(point, toBeInjectedIn);
+                    this.implementation = implementation;
+                }
+            }
+        }
+        return implementation;
+    }
+}
@@ -0,0 +1,129 @@
+package org.jusecase.inject;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable index of all registered instances, rebuilt by the injector after registrations changed.
+ */
+final class MultiBindings {
+    final int version;
+    final Object[] all;
+    private final Map<Class<?>, Map<QualifierKey, Object>> implementationsByQualifier;
+
+    private final Map<Class<?>, List<?>> lists = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Set<?>> sets = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Map<String, ?>> maps = new ConcurrentHashMap<>();
+
+    MultiBindings(int version, InjectorSnapshot snapshot) {
+        this.version = version;
+
+        Set<Object> all = Collections.newSetFromMap(new IdentityHashMap<>());
+        snapshot.implementations.values().forEach(i -> collect(i, all));
+        snapshot.implementationsByGenericType.values().forEach(i -> collect(i, all));
+
+        snapshot.implementationsByQualifier.values().forEach(qualified -> qualified.values().forEach(i -> collect(i, all)));
+
+        // Registry maps are unordered, sort for a stable iteration order
+        this.all = all.stream().sorted(Comparator.comparing(i -> i.getClass().getName())).toArray();
+        this.implementationsByQualifier = snapshot.implementationsByQualifier;
+    }
+
+    private static void collect(Object implementation, Set<Object> all) {
+        if (implementation instanceof AmbiguousDependency) {
+            ((AmbiguousDependency) implementation).getCandidates().forEach(c -> collect(c, all));
+        } else if (implementation instanceof CachingPerClassProvider) {
+            all.add(((CachingPerClassProvider<?>) implementation).getProvider());
+        } else if (!(implementation instanceof ObjectPool) && !(implementation instanceof RequestScopedProvider)) {
+            all.add(implementation); // Pools and request scoped bindings are no instances of their own
+        }
+    }
+
+    static Class<?> getElementType(Type type) {
+        if (!(type instanceof ParameterizedType)) {
+            return null;
+        }
+
+        ParameterizedType parameterizedType = (ParameterizedType) type;
+        Type rawType = parameterizedType.getRawType();
+        Type[] arguments = parameterizedType.getActualTypeArguments();
+        if ((rawType == List.class || rawType == Set.class) && arguments[0] instanceof Class) {
+            return (Class<?>) arguments[0];
+        }
+        if (rawType == Map.class && arguments[0] == String.class && arguments[1] instanceof Class) {
+            return (Class<?>) arguments[1];
+        }
+        return null;
+    }
+
+    Object get(Class<?> collectionType, Class<?> elementType) {
+        if (collectionType == Map.class) {
+            return getMap(elementType);
+        }
+        if (collectionType == Set.class) {
+            return getSet(elementType);
+        }
+        return getList(elementType);
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> List<T> getList(Class<T> elementType) {
+        return (List<T>) lists.computeIfAbsent(elementType, this::createList);
+    }
+
+    private List<?> createList(Class<?> elementType) {
+        return List.of(Arrays.stream(all).filter(elementType::isInstance).toArray());
+    }
+
+    private Set<?> getSet(Class<?> elementType) {
+        return sets.computeIfAbsent(elementType, k -> new IdentitySet(getList(k)));
+    }
+
+    private Map<String, ?> getMap(Class<?> elementType) {
+        return maps.computeIfAbsent(elementType, this::createMap);
+    }
+
+    private Map<String, ?> createMap(Class<?> elementType) {
+        // Names are only unique per type, so only the registrations of the element type itself count
+        Map<String, Object> map = new TreeMap<>();
+        implementationsByQualifier.getOrDefault(elementType, Collections.emptyMap()).forEach((qualifier, implementation) -> {
+            String name = qualifier.getName();
+            if (name != null && elementType.isInstance(implementation)) {
+                map.put(name, implementation);
+            }
+        });
+        return Collections.unmodifiableMap(map);
+    }
+
+    // Bindings are distinct by identity already, equal instances must not be merged
+    private static final class IdentitySet extends AbstractSet<Object> {
+        private final List<?> elements;
+
+        IdentitySet(List<?> elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Iterator<Object> iterator() {
+            return (Iterator<Object>) elements.iterator();
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            for (Object element : elements) {
+                if (element == o) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
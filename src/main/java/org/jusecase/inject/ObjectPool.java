@@ -0,0 +1,111 @@
+package org.jusecase.inject;
+
+import javax.inject.Provider;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+class ObjectPool<T> implements Pooled<T> {
+    final Class<T> type;
+    private final Provider<? extends T> factory;
+    private final AtomicReferenceArray<T> slots;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder contention = new LongAdder();
+    private final LongAdder discards = new LongAdder();
+
+    ObjectPool(Class<T> type, int size, Provider<? extends T> factory) {
+        if (size < 1) {
+            throw new InjectorException("Pool size of " + type.getName() + " must be at least 1, got " + size + ".");
+        }
+        this.type = type;
+        this.factory = factory;
+        this.slots = new AtomicReferenceArray<>(size);
+    }
+
+    @Override
+    public T borrow() {
+        int size = slots.length();
+        int index = getStripe(size);
+        for (int i = 0; i < size; ++i) {
+            T instance = slots.get(index);
+            if (instance != null) {
+                if (slots.compareAndSet(index, instance, null)) {
+                    hits.increment();
+                    return instance;
+                }
+                contention.increment();
+            }
+            if (++index == size) {
+                index = 0;
+            }
+        }
+
+        misses.increment();
+        return create();
+    }
+
+    @Override
+    public void release(T instance) {
+        if (instance == null) {
+            throw new InjectorException("Cannot release null to the pool of " + type.getName() + ".");
+        }
+
+        int size = slots.length();
+        // An idle instance sits in its slot, so a second release finds it there without any bookkeeping on borrow
+        for (int i = 0; i < size; ++i) {
+            if (slots.get(i) == instance) {
+                throw new InjectorException("Cannot release " + instance + " to the pool of " + type.getName() + ", it has already been released.");
+            }
+        }
+
+        int index = getStripe(size);
+        for (int i = 0; i < size; ++i) {
+            if (slots.get(index) == null) {
+                if (slots.compareAndSet(index, null, instance)) {
+                    return;
+                }
+                contention.increment();
+            }
+            if (++index == size) {
+                index = 0;
+            }
+        }
+
+        discards.increment(); // Pool is full, the instance is left to the garbage collector
+    }
+
+    // Threads start searching at different slots, so that they rarely compete for the same instance
+    private static int getStripe(int size) {
+        long hash = Thread.currentThread().getId() * 0x9E3779B97F4A7C15L;
+        return (int) ((hash >>> 33) % size);
+    }
+
+    private T create() {
+        T instance = factory.get();
+        if (instance == null) {
+            throw new InjectorException("Pool factory for " + type.getName() + " returned null.");
+        }
+        return instance;
+    }
+
+    PoolSnapshot snapshot() {
+        int idle = 0;
+        for (int i = 0; i < slots.length(); ++i) {
+            if (slots.get(i) != null) {
+                ++idle;
+            }
+        }
+        return new PoolSnapshot(slots.length(), idle, hits.sum(), misses.sum(), contention.sum(), discards.sum());
+    }
+
+    void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        contention.reset();
+        discards.reset();
+    }
+
+    InjectorException createNotPooledException() {
+        return new InjectorException(type.getName() + " is pooled, inject Pooled<" + type.getSimpleName() + "> instead.");
+    }
+}
@@ -0,0 +1,60 @@
+package org.jusecase.inject;
+
+public class PoolSnapshot {
+    private final int size;
+    private final int idle;
+    private final long hits;
+    private final long misses;
+    private final long contention;
+    private final long discards;
+
+    PoolSnapshot(int size, int idle, long hits, long misses, long contention, long discards) {
+        this.size = size;
+        this.idle = idle;
+        this.hits = hits;
+        this.misses = misses;
+        this.contention = contention;
+        this.discards = discards;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getIdle() {
+        return idle;
+    }
+
+    /**
+     * Borrows served by an idle instance.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Borrows that had to create a new instance.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Slots lost to another thread while borrowing or releasing.
+     */
+    public long getContention() {
+        return contention;
+    }
+
+    /**
+     * Released instances dropped because the pool was full.
+     */
+    public long getDiscards() {
+        return discards;
+    }
+
+    @Override
+    public String toString() {
+        return "size=" + size + ", idle=" + idle + ", hits=" + hits + ", misses=" + misses + ", contention=" + contention + ", discards=" + discards;
+    }
+}
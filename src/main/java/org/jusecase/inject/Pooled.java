@@ -0,0 +1,18 @@
+package org.jusecase.inject;
+
+import java.util.function.Function;
+
+public interface Pooled<T> {
+    T borrow();
+
+    void release(T instance);
+
+    default <R> R apply(Function<? super T, R> function) {
+        T instance = borrow();
+        try {
+            return function.apply(instance);
+        } finally {
+            release(instance);
+        }
+    }
+}
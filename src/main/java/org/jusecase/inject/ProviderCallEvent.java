@@ -0,0 +1,20 @@
+package org.jusecase.inject;
+
+import jdk.jfr.*;
+
+@Name("org.jusecase.inject.ProviderCall")
+@Label("Provider Call")
+@Category("Inject")
+@Description("Creation of a dependency by a provider")
+@Threshold("1 ms")
+class ProviderCallEvent extends Event {
+    @Label("Provider Class")
+    Class<?> providerClass;
+
+    @Label("Provided Type")
+    Class<?> providedType;
+
+    @Label("Target Type")
+    @Description("Type the dependency is injected in, if known")
+    Class<?> targetType;
+}
@@ -0,0 +1,144 @@
+package org.jusecase.inject;
+
+import javax.inject.Named;
+import javax.inject.Qualifier;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.StringJoiner;
+
+final class QualifierKey {
+    private static final Object[] NO_MEMBERS = new Object[0];
+    private static final ClassValue<Method[]> memberMethods = new ClassValue<>() {
+        @Override
+        protected Method[] computeValue(Class<?> type) {
+            Method[] methods = type.getDeclaredMethods();
+            Arrays.sort(methods, Comparator.comparing(Method::getName));
+            for (Method method : methods) {
+                method.setAccessible(true);
+            }
+            return methods;
+        }
+    };
+
+    private final Object value; // The name for @Named, the annotation type otherwise
+    private final Object[] members; // Attribute values of the qualifier annotation, ordered by attribute name
+    private final int hash;
+
+    private QualifierKey(Object value, Object[] members) {
+        this.value = value;
+        this.members = members;
+        this.hash = 31 * value.hashCode() + Arrays.deepHashCode(members);
+    }
+
+    static QualifierKey named(String name) {
+        return new QualifierKey(name, NO_MEMBERS);
+    }
+
+    // Attributes are read once here, so that lookups compare plain values instead of calling the annotation proxy
+    static QualifierKey of(Annotation qualifier) {
+        if (qualifier instanceof Named) {
+            return named(((Named) qualifier).value());
+        }
+
+        Method[] methods = memberMethods.get(qualifier.annotationType());
+        if (methods.length == 0) {
+            return new QualifierKey(qualifier.annotationType(), NO_MEMBERS);
+        }
+
+        Object[] members = new Object[methods.length];
+        for (int i = 0; i < methods.length; ++i) {
+            try {
+                members[i] = methods[i].invoke(qualifier);
+            } catch (ReflectiveOperationException e) {
+                throw new InjectorException("Failed to read attribute " + methods[i].getName() + " of qualifier " + qualifier, e);
+            }
+        }
+        return new QualifierKey(qualifier.annotationType(), members);
+    }
+
+    static QualifierKey of(Class<? extends Annotation> qualifierType) {
+        if (!qualifierType.isAnnotationPresent(Qualifier.class)) {
+            throw new InjectorException(qualifierType.getName() + " is not annotated with @Qualifier.");
+        }
+        if (qualifierType.getDeclaredMethods().length > 0) {
+            throw new InjectorException(qualifierType.getName() + " has attributes, use an annotation instance to qualify dependencies.");
+        }
+        return new QualifierKey(qualifierType, NO_MEMBERS);
+    }
+
+    static List<Annotation> findQualifiers(Annotation[] annotations) {
+        List<Annotation> qualifiers = new ArrayList<>(1);
+        for (Annotation annotation : annotations) {
+            if (annotation.annotationType().isAnnotationPresent(Qualifier.class)) {
+                qualifiers.add(annotation);
+            }
+        }
+        return qualifiers;
+    }
+
+    boolean isLoadedBy(ClassLoader classLoader) {
+        if (value instanceof Class && ClassLoaders.isLoadedBy((Class<?>) value, classLoader)) {
+            return true;
+        }
+        for (Object member : members) {
+            if (member instanceof Class && ClassLoaders.isLoadedBy((Class<?>) member, classLoader)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    String getName() {
+        return value instanceof String ? (String) value : null;
+    }
+
+    String describe() {
+        if (value instanceof String) {
+            return "named " + value;
+        }
+        return "qualified " + this;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        QualifierKey that = (QualifierKey) o;
+        return hash == that.hash && value.equals(that.value) && Arrays.deepEquals(members, that.members);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        if (!(value instanceof Class)) {
+            return value.toString();
+        }
+        if (members.length == 0) {
+            return "@" + ((Class<?>) value).getName();
+        }
+
+        Method[] methods = memberMethods.get((Class<?>) value);
+        StringJoiner joiner = new StringJoiner(", ", "@" + ((Class<?>) value).getName() + "(", ")");
+        for (int i = 0; i < members.length; ++i) {
+            joiner.add(methods[i].getName() + "=" + toString(members[i]));
+        }
+        return joiner.toString();
+    }
+
+    private static String toString(Object member) {
+        String wrapped = Arrays.deepToString(new Object[]{member}); // Also formats primitive arrays
+        return wrapped.substring(1, wrapped.length() - 1);
+    }
+}
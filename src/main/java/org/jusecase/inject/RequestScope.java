@@ -0,0 +1,46 @@
+package org.jusecase.inject;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+class RequestScope {
+    // The only per thread state, providers look up the scope of the current request here
+    static final ThreadLocal<RequestScope> current = new ThreadLocal<>();
+
+    private final RequestScopedSlots slots;
+    private Object[] instances;
+    private Map<RequestScopedProvider<?>, Object> otherInstances;
+
+    RequestScope(RequestScopedSlots slots) {
+        this.slots = slots;
+    }
+
+    Object get(RequestScopedProvider<?> provider) {
+        if (provider.slots != slots) {
+            return getOther(provider);
+        }
+
+        int slot = provider.slot;
+        if (instances == null) {
+            instances = new Object[slots.size()];
+        } else if (slot >= instances.length) {
+            instances = Arrays.copyOf(instances, Math.max(slots.size(), slot + 1));
+        }
+
+        Object instance = instances[slot];
+        if (instance == null) {
+            instance = provider.create();
+            instances[slot] = instance;
+        }
+        return instance;
+    }
+
+    private Object getOther(RequestScopedProvider<?> provider) {
+        // Dependency of an unrelated injector, resolved within this scope
+        if (otherInstances == null) {
+            otherInstances = new IdentityHashMap<>();
+        }
+        return otherInstances.computeIfAbsent(provider, RequestScopedProvider::create);
+    }
+}
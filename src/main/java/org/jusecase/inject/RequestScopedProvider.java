@@ -0,0 +1,39 @@
+package org.jusecase.inject;
+
+import javax.inject.Provider;
+
+class RequestScopedProvider<T> implements Provider<T> {
+    private final Class<?> type;
+    private final Provider<T> provider;
+    final RequestScopedSlots slots;
+    final int slot;
+
+    RequestScopedProvider(Class<?> type, Provider<T> provider, RequestScopedSlots slots) {
+        this.type = type;
+        this.provider = provider;
+        this.slots = slots;
+        this.slot = slots.allocate();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get() {
+        RequestScope scope = RequestScope.current.get();
+        if (scope == null) {
+            throw new InjectorException("No request scope active. Failed to resolve request scoped " + type.getName());
+        }
+        return (T) scope.get(this);
+    }
+
+    boolean isLoadedBy(ClassLoader classLoader) {
+        return ClassLoaders.isLoadedBy(type, classLoader) || ClassLoaders.isLoadedBy(provider.getClass(), classLoader);
+    }
+
+    T create() {
+        T instance = provider.get();
+        if (instance == null) {
+            throw new InjectorException("Request scoped provider for " + type.getName() + " returned null.");
+        }
+        return instance;
+    }
+}
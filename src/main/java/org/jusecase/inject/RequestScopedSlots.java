@@ -0,0 +1,19 @@
+package org.jusecase.inject;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Slot numbers of request scoped dependencies. An injector shares them with its baseline and all forks of that baseline,
+ * so that request scoped dependencies of all of them find their instance in the same scope array.
+ */
+final class RequestScopedSlots {
+    private final AtomicInteger next = new AtomicInteger();
+
+    int allocate() {
+        return next.getAndIncrement();
+    }
+
+    int size() {
+        return next.get();
+    }
+}
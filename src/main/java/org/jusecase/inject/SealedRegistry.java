@@ -0,0 +1,49 @@
+package org.jusecase.inject;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Copies everything on creation, later registrations and evicted instances are not reachable from here
+class SealedRegistry {
+    private final Map<Class<?>, Binding> bindings;
+    private final Map<TypeKey, Binding> exactGenericBindings;
+    private final Map<TypeKey, Binding> genericBindings;
+    private final Map<Class<?>, Object> implementations;
+
+    SealedRegistry(Map<Class<?>, Object> implementations, Map<TypeKey, Object> implementationsByGenericType) {
+        Map<Class<?>, Binding> bindings = new HashMap<>(implementations.size());
+        for (Map.Entry<Class<?>, Object> entry : implementations.entrySet()) {
+            bindings.put(entry.getKey(), Binding.of(entry.getValue(), entry.getKey()));
+        }
+        this.bindings = bindings;
+
+        this.implementations = new HashMap<>(implementations);
+
+        Map<TypeKey, Binding> exactGenericBindings = new HashMap<>(implementationsByGenericType.size());
+        for (Map.Entry<TypeKey, Object> entry : implementationsByGenericType.entrySet()) {
+            exactGenericBindings.put(entry.getKey(), Binding.of(entry.getValue(), entry.getKey().rawType));
+        }
+        this.exactGenericBindings = exactGenericBindings;
+        this.genericBindings = new ConcurrentHashMap<>(exactGenericBindings);
+    }
+
+    Binding get(Class<?> type) {
+        return bindings.getOrDefault(type, Binding.NONE);
+    }
+
+    Binding get(TypeKey type) {
+        Binding binding = genericBindings.get(type);
+        if (binding == null) {
+            // Falls back to the raw type, unless that is bound to another instantiation
+            Object implementation = implementations.get(type.rawType);
+            binding = implementation == null || type.conflictsWith(implementation) ? Binding.NONE : get(type.rawType);
+            genericBindings.putIfAbsent(type, binding);
+        }
+        return binding;
+    }
+
+    Binding getExact(TypeKey type) {
+        return exactGenericBindings.getOrDefault(type, Binding.NONE);
+    }
+}
@@ -0,0 +1,141 @@
+package org.jusecase.inject;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+public class StartupProfiler {
+    private static final com.sun.management.ThreadMXBean threads = findThreadMXBean();
+
+    private final ThreadLocal<Frame> currentFrame = new ThreadLocal<>();
+    private final Map<String, StartupReport.Entry> entries = new ConcurrentHashMap<>();
+    private final Consumer<StartupReport> bootstrapListener;
+    private long firstStartNanos;
+    private long lastEndNanos;
+    private boolean started;
+
+    StartupProfiler(Consumer<StartupReport> bootstrapListener) {
+        this.bootstrapListener = bootstrapListener;
+    }
+
+    Frame enter(String operation, Class<?> type) {
+        Frame parent = currentFrame.get();
+        Frame frame = new Frame(parent, type == null ? operation : operation + " " + type.getName(), false);
+        currentFrame.set(frame);
+        return frame;
+    }
+
+    Frame enterRegistration(String operation, Class<?> type) {
+        Frame parent = currentFrame.get();
+        if (parent != null && parent.registration) {
+            return null; // Public add methods delegating to each other are profiled once
+        }
+
+        Frame frame = new Frame(parent, type == null ? operation : operation + " " + type.getName(), true);
+        currentFrame.set(frame);
+        return frame;
+    }
+
+    void exit(Frame frame) {
+        if (frame == null) {
+            return;
+        }
+
+        long wallNanos = System.nanoTime() - frame.startNanos;
+        long allocatedBytes = getAllocatedBytes() - frame.startBytes;
+        StartupReport.Entry entry = new StartupReport.Entry(frame.operation, frame.stack, 1, wallNanos, wallNanos - frame.childNanos, allocatedBytes, allocatedBytes - frame.childBytes);
+        entries.merge(frame.stack, entry, StartupReport.Entry::plus);
+
+        if (frame.parent == null) {
+            currentFrame.remove();
+            elapsed(frame.startNanos, frame.startNanos + wallNanos);
+        } else {
+            frame.parent.childNanos += wallNanos;
+            frame.parent.childBytes += allocatedBytes;
+            currentFrame.set(frame.parent);
+        }
+    }
+
+    // Wall time is measured from the first start to the last end, no matter how many threads took part
+    synchronized void elapsed(long startNanos, long endNanos) {
+        if (!started || startNanos < firstStartNanos) {
+            firstStartNanos = startNanos;
+        }
+        if (!started || endNanos > lastEndNanos) {
+            lastEndNanos = endNanos;
+        }
+        started = true;
+    }
+
+    boolean bootstrapCompleted() {
+        if (bootstrapListener == null) {
+            return false;
+        }
+        bootstrapListener.accept(getReport());
+        return true;
+    }
+
+    public StartupReport getReport() {
+        long wallNanos;
+        synchronized (this) {
+            wallNanos = started ? lastEndNanos - firstStartNanos : 0;
+        }
+        return new StartupReport(new ArrayList<>(entries.values()), wallNanos);
+    }
+
+    public void reset() {
+        entries.clear();
+        synchronized (this) {
+            started = false;
+        }
+    }
+
+    public static boolean isAllocationProfilingSupported() {
+        return threads != null;
+    }
+
+    private static long getAllocatedBytes() {
+        if (threads == null) {
+            return 0;
+        }
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static com.sun.management.ThreadMXBean findThreadMXBean() {
+        try {
+            java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+            if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) threadMXBean;
+                if (threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+                    return threads;
+                }
+            }
+        } catch (LinkageError e) {
+            // jdk.management is not available, only wall time is profiled
+        }
+        return null;
+    }
+
+    static final class Frame {
+        final Frame parent;
+        final String operation;
+        final String stack;
+        final boolean registration;
+        final long startNanos;
+        final long startBytes;
+        long childNanos;
+        long childBytes;
+
+        Frame(Frame parent, String operation, boolean registration) {
+            this.parent = parent;
+            this.operation = operation;
+            this.stack = parent == null ? operation : parent.stack + ';' + operation;
+            this.registration = registration;
+            this.startBytes = getAllocatedBytes();
+            this.startNanos = System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package org.jusecase.inject;
+
+import java.time.Duration;
+import java.util.*;
+
+public class StartupReport {
+    private final List<Entry> stacks;
+    private final List<Entry> operations;
+    private final long wallNanos;
+
+    StartupReport(List<Entry> stacks, long wallNanos) {
+        this.wallNanos = wallNanos;
+        stacks.sort(Comparator.comparing(Entry::getStack));
+        this.stacks = Collections.unmodifiableList(stacks);
+
+        Map<String, Entry> operations = new HashMap<>();
+        for (Entry entry : stacks) {
+            operations.merge(entry.operation, new Entry(entry.operation, entry.operation, entry.count, entry.wallNanos, entry.selfWallNanos, entry.allocatedBytes, entry.selfAllocatedBytes), Entry::plus);
+        }
+        List<Entry> sorted = new ArrayList<>(operations.values());
+        sorted.sort(Comparator.comparingLong((Entry e) -> e.wallNanos).reversed());
+        this.operations = Collections.unmodifiableList(sorted);
+    }
+
+    /**
+     * One entry per operation, sorted by wall time. Operations nested in themselves are counted twice.
+     */
+    public List<Entry> getOperations() {
+        return operations;
+    }
+
+    /**
+     * One entry per call stack, sorted by stack.
+     */
+    public List<Entry> getStacks() {
+        return stacks;
+    }
+
+    public Optional<Entry> getOperation(String operation) {
+        return operations.stream().filter(e -> e.operation.equals(operation)).findFirst();
+    }
+
+    /**
+     * Elapsed time from the start of the first profiled operation to the end of the last one. A bootstrap is measured as a whole.
+     */
+    public Duration getWallTime() {
+        return Duration.ofNanos(wallNanos);
+    }
+
+    /**
+     * Wall time of all top level operations added up. Operations that ran in parallel are all counted, so this can exceed {@link #getWallTime()}.
+     */
+    public Duration getCumulativeWallTime() {
+        return Duration.ofNanos(stacks.stream().filter(Entry::isRoot).mapToLong(e -> e.wallNanos).sum());
+    }
+
+    /**
+     * Bytes allocated by all threads during top level operations.
+     */
+    public long getTotalAllocatedBytes() {
+        return stacks.stream().filter(Entry::isRoot).mapToLong(e -> e.allocatedBytes).sum();
+    }
+
+    /**
+     * Self wall time in microseconds per call stack, in the collapsed format of flame graph tools.
+     */
+    public String toCollapsedStacks() {
+        StringBuilder result = new StringBuilder();
+        for (Entry entry : stacks) {
+            result.append(entry.stack).append(' ').append(Math.max(0, entry.selfWallNanos / 1000)).append('\n');
+        }
+        return result.toString();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+        result.append("Startup took ").append(format(getWallTime())).append(" (").append(format(getCumulativeWallTime())).append(" cumulative) and allocated ").append(getTotalAllocatedBytes()).append(" bytes\n");
+        result.append(String.format("  %12s %12s %14s %14s %6s  %s%n", "wall", "self", "allocated", "self allocated", "calls", "operation"));
+        for (Entry entry : operations) {
+            result.append(String.format("  %12s %12s %14d %14d %6d  %s%n", format(entry.getWallTime()), format(entry.getSelfWallTime()), entry.allocatedBytes, entry.selfAllocatedBytes, entry.count, entry.operation));
+        }
+        return result.toString();
+    }
+
+    private static String format(Duration duration) {
+        return String.format("%.3f ms", duration.toNanos() / 1_000_000.0);
+    }
+
+    public static final class Entry {
+        private final String operation;
+        private final String stack;
+        private final long count;
+        private final long wallNanos;
+        private final long selfWallNanos;
+        private final long allocatedBytes;
+        private final long selfAllocatedBytes;
+
+        Entry(String operation, String stack, long count, long wallNanos, long selfWallNanos, long allocatedBytes, long selfAllocatedBytes) {
+            this.operation = operation;
+            this.stack = stack;
+            this.count = count;
+            this.wallNanos = wallNanos;
+            this.selfWallNanos = selfWallNanos;
+            this.allocatedBytes = allocatedBytes;
+            this.selfAllocatedBytes = selfAllocatedBytes;
+        }
+
+        Entry plus(Entry other) {
+            return new Entry(operation, stack, count + other.count, wallNanos + other.wallNanos, selfWallNanos + other.selfWallNanos, allocatedBytes + other.allocatedBytes, selfAllocatedBytes + other.selfAllocatedBytes);
+        }
+
+        boolean isRoot() {
+            return stack.indexOf(';') < 0;
+        }
+
+        public String getOperation() {
+            return operation;
+        }
+
+        public String getStack() {
+            return stack;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public Duration getWallTime() {
+            return Duration.ofNanos(wallNanos);
+        }
+
+        public Duration getSelfWallTime() {
+            return Duration.ofNanos(selfWallNanos);
+        }
+
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        public long getSelfAllocatedBytes() {
+            return selfAllocatedBytes;
+        }
+
+        @Override
+        public String toString() {
+            return operation + ": " + format(getWallTime()) + ", " + allocatedBytes + " bytes, " + count + " calls";
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.jusecase.inject;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+class TrainerClasses {
+    private static final List<TrainerNamingStrategy> namingStrategies = new CopyOnWriteArrayList<>(List.of(TrainerNamingStrategy.DEFAULT));
+    private static volatile ClassValue<Optional<Class<?>>> trainerClasses = createCache();
+
+    static Class<?> find(Class<?> type) {
+        return trainerClasses.get(type).orElse(null);
+    }
+
+    static void addNamingStrategy(TrainerNamingStrategy namingStrategy) {
+        namingStrategies.add(namingStrategy);
+        trainerClasses = createCache();
+    }
+
+    static void removeNamingStrategy(TrainerNamingStrategy namingStrategy) {
+        namingStrategies.remove(namingStrategy);
+        trainerClasses = createCache();
+    }
+
+    private static ClassValue<Optional<Class<?>>> createCache() {
+        return new ClassValue<>() {
+            @Override
+            protected Optional<Class<?>> computeValue(Class<?> type) {
+                return Optional.ofNullable(load(type));
+            }
+        };
+    }
+
+    private static Class<?> load(Class<?> type) {
+        ClassLoader injectorClassLoader = TrainerClasses.class.getClassLoader();
+        for (TrainerNamingStrategy namingStrategy : namingStrategies) {
+            String className = namingStrategy.getTrainerClassName(type);
+            if (className == null) {
+                continue;
+            }
+
+            Class<?> trainerClass = load(className, type.getClassLoader());
+            if (trainerClass == null && type.getClassLoader() != injectorClassLoader) {
+                trainerClass = load(className, injectorClassLoader);
+            }
+            if (trainerClass != null) {
+                return trainerClass;
+            }
+        }
+        return null;
+    }
+
+    // Misses are cached per type, so the exception is thrown at most once for every interface without trainer
+    private static Class<?> load(String className, ClassLoader classLoader) {
+        try {
+            return Class.forName(className, false, classLoader);
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package org.jusecase.inject;
+
+@FunctionalInterface
+public interface TrainerNamingStrategy {
+    TrainerNamingStrategy DEFAULT = type -> type.getName() + "Trainer";
+
+    String getTrainerClassName(Class<?> type);
+}
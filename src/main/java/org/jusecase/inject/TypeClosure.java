@@ -0,0 +1,70 @@
+package org.jusecase.inject;
+
+import java.lang.reflect.ParameterizedType;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+class TypeClosure {
+    private static final ClassValue<Class<?>[]> closures = new ClassValue<>() {
+        @Override
+        protected Class<?>[] computeValue(Class<?> type) {
+            return compute(type);
+        }
+    };
+
+    private static final ClassValue<TypeKey[]> genericClosures = new ClassValue<>() {
+        @Override
+        protected TypeKey[] computeValue(Class<?> type) {
+            return computeGeneric(type);
+        }
+    };
+
+    // The type itself, its superclasses and all interfaces including super-interfaces, without Object unless the type is Object
+    static Class<?>[] of(Class<?> type) {
+        return closures.get(type);
+    }
+
+    // All parameterized supertypes whose type arguments are fully known, like Repository<User> for UserRepository
+    static TypeKey[] genericOf(Class<?> type) {
+        return genericClosures.get(type);
+    }
+
+    private static TypeKey[] computeGeneric(Class<?> type) {
+        Set<TypeKey> closure = new LinkedHashSet<>();
+        for (ParameterizedType supertype : GenericTypeResolver.getGenericSupertypes(type)) {
+            TypeKey key = TypeKey.of(supertype);
+            if (key != null) {
+                closure.add(key);
+            }
+        }
+        return closure.toArray(new TypeKey[0]);
+    }
+
+    private static Class<?>[] compute(Class<?> type) {
+        Set<Class<?>> closure = new LinkedHashSet<>();
+        Deque<Class<?>> interfaces = new ArrayDeque<>();
+
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            closure.add(c);
+            for (Class<?> interfaceClass : c.getInterfaces()) {
+                interfaces.add(interfaceClass);
+            }
+        }
+        if (type.isInterface() || type == Object.class) {
+            closure.add(type);
+        }
+
+        while (!interfaces.isEmpty()) {
+            Class<?> interfaceClass = interfaces.poll();
+            if (closure.add(interfaceClass)) {
+                for (Class<?> superInterface : interfaceClass.getInterfaces()) {
+                    interfaces.add(superInterface);
+                }
+            }
+        }
+
+        return closure.toArray(new Class<?>[0]);
+    }
+}
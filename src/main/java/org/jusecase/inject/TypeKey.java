@@ -0,0 +1,100 @@
+package org.jusecase.inject;
+
+import javax.inject.Provider;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.StringJoiner;
+
+// Canonical form of a fully resolved generic type, independent of the Type implementation it was created from
+final class TypeKey {
+    private static final TypeKey[] NO_ARGUMENTS = new TypeKey[0];
+
+    final Class<?> rawType;
+    private final TypeKey[] arguments;
+    private final int hash;
+
+    private TypeKey(Class<?> rawType, TypeKey[] arguments) {
+        this.rawType = rawType;
+        this.arguments = arguments;
+        this.hash = 31 * rawType.hashCode() + Arrays.hashCode(arguments);
+    }
+
+    // Null for types that are no valid keys, like type variables or wildcards
+    static TypeKey of(Type type) {
+        if (type instanceof Class) {
+            return new TypeKey((Class<?>) type, NO_ARGUMENTS);
+        }
+        if (type instanceof ParameterizedType) {
+            Type[] typeArguments = ((ParameterizedType) type).getActualTypeArguments();
+            TypeKey[] arguments = new TypeKey[typeArguments.length];
+            for (int i = 0; i < typeArguments.length; ++i) {
+                arguments[i] = of(typeArguments[i]);
+                if (arguments[i] == null) {
+                    return null;
+                }
+            }
+            return new TypeKey((Class<?>) ((ParameterizedType) type).getRawType(), arguments);
+        }
+        return null;
+    }
+
+    // Keys of parameterized types only, plain classes are registered by class
+    static TypeKey ofParameterized(Type type) {
+        return type instanceof ParameterizedType ? of(type) : null;
+    }
+
+    // True if the implementation, registered by its raw type, is known to be another instantiation of this type
+    boolean conflictsWith(Object implementation) {
+        for (TypeKey type : TypeClosure.genericOf(implementation.getClass())) {
+            if (type.rawType == rawType) {
+                return !equals(type);
+            }
+            if ((type.rawType == Provider.class || type.rawType == PerClassProvider.class) && type.arguments[0].rawType == rawType) {
+                return !equals(type.arguments[0]);
+            }
+        }
+        return false;
+    }
+
+    boolean isLoadedBy(ClassLoader classLoader) {
+        if (ClassLoaders.isLoadedBy(rawType, classLoader)) {
+            return true;
+        }
+        for (TypeKey argument : arguments) {
+            if (argument.isLoadedBy(classLoader)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        TypeKey that = (TypeKey) o;
+        return hash == that.hash && rawType == that.rawType && Arrays.equals(arguments, that.arguments);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        if (arguments.length == 0) {
+            return rawType.getName();
+        }
+        StringJoiner joiner = new StringJoiner(", ", rawType.getName() + "<", ">");
+        for (TypeKey argument : arguments) {
+            joiner.add(argument.toString());
+        }
+        return joiner.toString();
+    }
+}
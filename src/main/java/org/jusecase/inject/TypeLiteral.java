@@ -0,0 +1,74 @@
+package org.jusecase.inject;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+
+/**
+ * Captures a generic type, so that it can be used as key: {@code new TypeLiteral<Repository<User>>() {}}
+ */
+public abstract class TypeLiteral<T> {
+    // Every literal expression is its own class, so repeated calls of the same expression share one type and key
+    private static final ClassValue<Captured> captured = new ClassValue<>() {
+        @Override
+        protected Captured computeValue(Class<?> type) {
+            return capture(type);
+        }
+    };
+
+    final TypeKey key;
+    private final Type type;
+
+    protected TypeLiteral() {
+        Captured captured = TypeLiteral.captured.get(getClass());
+        type = captured.type;
+        key = captured.key;
+    }
+
+    private static Captured capture(Class<?> literalClass) {
+        Type superclass = literalClass.getGenericSuperclass();
+        if (!(superclass instanceof ParameterizedType) || ((ParameterizedType) superclass).getRawType() != TypeLiteral.class) {
+            throw new InjectorException("TypeLiteral must be created as direct anonymous subclass with a type argument, e.g. new TypeLiteral<List<String>>() {}");
+        }
+
+        Type type = ((ParameterizedType) superclass).getActualTypeArguments()[0];
+        TypeKey key = TypeKey.of(type);
+        if (key == null) {
+            throw new InjectorException("TypeLiteral must not contain type variables or wildcards, got " + type.getTypeName());
+        }
+        return new Captured(type, key);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    @SuppressWarnings("unchecked")
+    public Class<? super T> getRawType() {
+        return (Class<? super T>) key.rawType;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof TypeLiteral && key.equals(((TypeLiteral<?>) o).key);
+    }
+
+    @Override
+    public int hashCode() {
+        return key.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return key.toString();
+    }
+
+    private static final class Captured {
+        final Type type;
+        final TypeKey key;
+
+        Captured(Type type, TypeKey key) {
+            this.type = type;
+            this.key = key;
+        }
+    }
+}
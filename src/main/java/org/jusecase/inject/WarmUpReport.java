@@ -0,0 +1,41 @@
+package org.jusecase.inject;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class WarmUpReport {
+    private final Map<Class<?>, Duration> durations = new LinkedHashMap<>();
+
+    void add(Class<?> clazz, long nanos) {
+        durations.merge(clazz, Duration.ofNanos(nanos), Duration::plus);
+    }
+
+    public Duration getDuration(Class<?> clazz) {
+        return durations.getOrDefault(clazz, Duration.ZERO);
+    }
+
+    public Map<Class<?>, Duration> getDurations() {
+        return Collections.unmodifiableMap(durations);
+    }
+
+    public Duration getTotalDuration() {
+        return durations.values().stream().reduce(Duration.ZERO, Duration::plus);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+        result.append("Warm-up of ").append(durations.size()).append(" classes took ").append(format(getTotalDuration())).append('\n');
+        durations.entrySet().stream()
+                .sorted(Map.Entry.<Class<?>, Duration>comparingByValue(Comparator.reverseOrder()))
+                .forEach(e -> result.append("  ").append(format(e.getValue())).append(' ').append(e.getKey().getName()).append('\n'));
+        return result.toString();
+    }
+
+    private static String format(Duration duration) {
+        return String.format("%.3f ms", duration.toNanos() / 1_000_000.0);
+    }
+}
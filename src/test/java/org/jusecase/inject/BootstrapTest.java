@@ -0,0 +1,281 @@
+package org.jusecase.inject;
+
+import org.junit.jupiter.api.Test;
+import org.jusecase.inject.classes.BeanWithFinalField;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class BootstrapTest {
+    private final Injector injector = new Injector();
+
+    @Test
+    void dependencyOrder() {
+        injector.bootstrap(Arrays.asList(Service.class, Gateway.class, Pool.class));
+
+        Service service = injector.resolve(Service.class);
+        assertThat(service.gateway).isSameAs(injector.resolve(Gateway.class));
+        assertThat(service.gateway.pool).isSameAs(injector.resolve(Pool.class));
+        assertThat(service.pool).isSameAs(injector.resolve(Pool.class));
+    }
+
+    @Test
+    void independentClassesInParallel() {
+        SlowDependency.started = new CountDownLatch(2);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            injector.bootstrap(Arrays.asList(SlowDependency1.class, SlowDependency2.class), executor);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(injector.resolve(SlowDependency1.class).startedInParallel).isTrue();
+        assertThat(injector.resolve(SlowDependency2.class).startedInParallel).isTrue();
+    }
+
+    @Test
+    void provider() {
+        injector.bootstrap(Arrays.asList(Consumer.class, PoolProvider.class));
+
+        Consumer consumer = injector.resolve(Consumer.class);
+        assertThat(consumer.pool).isNotNull();
+        assertThat(injector.resolve(PoolProvider.class)).isNotNull();
+    }
+
+    @Test
+    void providerDependency() {
+        injector.bootstrap(Arrays.asList(PoolProvider.class, GatewayProvider.class, LazyConsumer.class));
+
+        assertThat(injector.resolve(LazyConsumer.class).poolProvider).isSameAs(injector.resolve(PoolProvider.class));
+        assertThat(injector.resolve(Gateway.class).pool).isNotNull();
+    }
+
+    @Test
+    void perClassProvider() {
+        injector.bootstrap(Arrays.asList(NameUser.class, NameProvider.class));
+
+        assertThat(injector.resolve(NameUser.class).name).isEqualTo(NameUser.class.getSimpleName());
+    }
+
+    @Test
+    void dependentDoesNotWaitForUnrelatedClasses() {
+        UnrelatedDependency.dependentCreated = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            injector.bootstrap(Arrays.asList(UnrelatedDependency.class, Pool.class, Gateway.class), executor);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(injector.resolve(UnrelatedDependency.class).dependentCreatedBefore).isTrue();
+    }
+
+    @Test
+    void registrationOrder() {
+        injector.bootstrap(Arrays.asList(SlowPool.class, Pool.class));
+
+        assertThat(injector.resolve(Pool.class)).isExactlyInstanceOf(Pool.class);
+    }
+
+    @Test
+    void alreadyRegisteredDependency() {
+        Pool pool = new Pool();
+        injector.add(pool);
+
+        injector.bootstrap(List.of(Gateway.class));
+
+        assertThat(injector.resolve(Gateway.class).pool).isSameAs(pool);
+    }
+
+    @Test
+    void failures() {
+        Throwable throwable = catchThrowable(() -> injector.bootstrap(Arrays.asList(Broken1.class, Broken2.class, Pool.class, BrokenDependent.class)));
+
+        assertThat(throwable).isInstanceOf(InjectorException.class).hasMessageStartingWith("Failed to bootstrap 2 of 4 classes:");
+        assertThat(throwable.getMessage()).endsWith(" Skipped 1 classes with failed dependencies: [" + BrokenDependent.class.getName() + "] The other 1 classes were registered.");
+        assertThat(throwable.getSuppressed()).hasSize(2);
+        assertThat(injector.resolve(Pool.class)).isNotNull();
+        assertThat(injector.resolve(BrokenDependent.class)).isNull();
+    }
+
+    @Test
+    void invalidInjectionPlan() {
+        Throwable throwable = catchThrowable(() -> injector.bootstrap(Arrays.asList(BeanWithFinalField.class, Pool.class)));
+
+        assertThat(throwable).isInstanceOf(InjectorException.class).hasMessageStartingWith("Failed to bootstrap 1 of 2 classes: [@Inject field must not be final.");
+        assertThat(injector.resolve(Pool.class)).isNotNull();
+    }
+
+    @Test
+    void circularDependency() {
+        Throwable throwable = catchThrowable(() -> injector.bootstrap(Arrays.asList(Pool.class, Chicken.class, Egg.class)));
+
+        assertThat(throwable).isInstanceOf(InjectorException.class).hasMessage("Circular dependency between [" + Chicken.class.getName() + ", " + Egg.class.getName() + "]");
+    }
+
+    @Test
+    void sealed() {
+        injector.seal();
+
+        Throwable throwable = catchThrowable(() -> injector.bootstrap(List.of(Pool.class)));
+
+        assertThat(throwable).isInstanceOf(InjectorException.class).hasMessage("Injector is sealed, no more dependencies can be added.");
+    }
+
+    public static class Pool {
+    }
+
+    public static class Gateway {
+        final Pool pool;
+
+        @Inject
+        public Gateway(Pool pool) {
+            this.pool = pool;
+            if (UnrelatedDependency.dependentCreated != null) {
+                UnrelatedDependency.dependentCreated.countDown();
+            }
+        }
+    }
+
+    public static class Service {
+        final Gateway gateway;
+        final Pool pool;
+
+        @Inject
+        public Service(Gateway gateway, Pool pool) {
+            this.gateway = gateway;
+            this.pool = pool;
+        }
+    }
+
+    public static class Consumer {
+        final Pool pool;
+
+        @Inject
+        public Consumer(Pool pool) {
+            this.pool = pool;
+        }
+    }
+
+    public static class PoolProvider implements Provider<Pool> {
+        @Override
+        public Pool get() {
+            return new Pool();
+        }
+    }
+
+    public static class GatewayProvider implements Provider<Gateway> {
+        private final LazyConsumer consumer;
+
+        @Inject
+        public GatewayProvider(LazyConsumer consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public Gateway get() {
+            return new Gateway(consumer.poolProvider.get());
+        }
+    }
+
+    public static class LazyConsumer {
+        final Provider<Pool> poolProvider;
+
+        @Inject
+        public LazyConsumer(Provider<Pool> poolProvider) {
+            this.poolProvider = poolProvider;
+        }
+    }
+
+    public static class SlowPool extends Pool {
+        public SlowPool() throws InterruptedException {
+            Thread.sleep(50);
+        }
+    }
+
+    public static class NameUser {
+        final String name;
+
+        @Inject
+        public NameUser(String name) {
+            this.name = name;
+        }
+    }
+
+    public static class NameProvider implements PerClassProvider<String> {
+        @Override
+        public String get(Class<?> classToInject) {
+            return classToInject.getSimpleName();
+        }
+    }
+
+    public static abstract class SlowDependency {
+        static CountDownLatch started;
+        final boolean startedInParallel;
+
+        SlowDependency() {
+            started.countDown();
+            try {
+                startedInParallel = started.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    public static class SlowDependency1 extends SlowDependency {
+    }
+
+    public static class SlowDependency2 extends SlowDependency {
+    }
+
+    public static class UnrelatedDependency {
+        static CountDownLatch dependentCreated;
+        final boolean dependentCreatedBefore;
+
+        public UnrelatedDependency() throws InterruptedException {
+            dependentCreatedBefore = dependentCreated.await(10, TimeUnit.SECONDS);
+        }
+    }
+
+    public static class Broken1 {
+        public Broken1() {
+            throw new IllegalStateException("broken1");
+        }
+    }
+
+    public static class Broken2 {
+        public Broken2() {
+            throw new IllegalStateException("broken2");
+        }
+    }
+
+    public static class BrokenDependent {
+        @Inject
+        public BrokenDependent(Broken1 broken1) {
+        }
+    }
+
+    public static class Chicken {
+        @Inject
+        public Chicken(Egg egg, Pool pool) {
+        }
+    }
+
+    public static class Egg {
+        @Inject
+        public Egg(Chicken chicken) {
+        }
+    }
+}
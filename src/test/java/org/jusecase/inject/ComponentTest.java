@@ -11,9 +11,20 @@ public interface ComponentTest {
     @BeforeEach
     default void initInjector() {
         Injector.enableUnitTestMode();
+
+        InjectorSnapshot baseline = getInjectorBaseline();
+        if (baseline != null) {
+            Injector.getInstance().reset(baseline);
+        }
+
         injectFieldsDeclaredInTestClassAndSuperClasses(getClass());
     }
 
+    // Dependencies every test starts with, forked in constant time before each test
+    default InjectorSnapshot getInjectorBaseline() {
+        return null;
+    }
+
     default void injectFieldsDeclaredInTestClassAndSuperClasses(Class<?> testClass) {
         if (testClass != Object.class) {
             injectFieldsDeclaredInTestClassAndSuperClasses(testClass.getSuperclass());
@@ -22,26 +33,22 @@ public interface ComponentTest {
     }
 
     default void injectFieldsDeclaredInTestClass(Class<?> testClass) {
-        for (Field field : testClass.getDeclaredFields()) {
-            Trainer trainer = field.getAnnotation(Trainer.class);
-            if (trainer != null) {
-                try {
-                    field.setAccessible(true);
-
-                    Object instance = field.get(this);
-                    if (instance == null) {
-                        instance = field.getType().getConstructor().newInstance();
-                        field.set(this, instance);
-                    }
+        for (TrainerFields.TrainerField trainerField : TrainerFields.of(testClass)) {
+            Field field = trainerField.field;
+            try {
+                Object instance = field.get(this);
+                if (instance == null) {
+                    instance = field.getType().getConstructor().newInstance();
+                    field.set(this, instance);
+                }
 
-                    if (trainer.named().isEmpty()) {
-                        givenDependency(instance);
-                    } else {
-                        givenDependency(trainer.named(), instance);
-                    }
-                } catch (Exception e) {
-                    throw new RuntimeException("Failed to inject field " + field.getName() + " in test class " + testClass.getSimpleName(), e);
+                if (trainerField.name.isEmpty()) {
+                    givenDependency(instance);
+                } else {
+                    givenDependency(trainerField.name, instance);
                 }
+            } catch (Exception e) {
+                throw new RuntimeException("Failed to inject field " + field.getName() + " in test class " + testClass.getSimpleName(), e);
             }
         }
     }
@@ -49,6 +56,7 @@ public interface ComponentTest {
     @AfterEach
     default void resetInjector() {
         Injector.getInstance().reset();
+        Injector.releaseUnitTestInstance();
     }
 
     default void givenDependency(Class<?> clazz) {
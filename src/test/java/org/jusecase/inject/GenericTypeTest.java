@@ -0,0 +1,245 @@
+package org.jusecase.inject;
+
+import org.junit.jupiter.api.Test;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class GenericTypeTest implements ComponentTest {
+
+    @Test
+    void distinctInstantiations() {
+        UserRepository userRepository = new UserRepository();
+        OrderRepository orderRepository = new OrderRepository();
+        givenDependency(userRepository);
+        givenDependency(orderRepository);
+
+        RepositoryUser user = new RepositoryUser();
+
+        assertThat(user.users).isSameAs(userRepository);
+        assertThat(user.orders).isSameAs(orderRepository);
+    }
+
+    @Test
+    void distinctInstantiations_addAll() {
+        UserRepository userRepository = new UserRepository();
+        OrderRepository orderRepository = new OrderRepository();
+        Injector.getInstance().addAll(List.of(userRepository, orderRepository));
+
+        RepositoryUser user = new RepositoryUser();
+
+        assertThat(user.users).isSameAs(userRepository);
+        assertThat(user.orders).isSameAs(orderRepository);
+    }
+
+    @Test
+    void distinctInstantiations_sealed() {
+        UserRepository userRepository = new UserRepository();
+        OrderRepository orderRepository = new OrderRepository();
+        givenDependency(userRepository);
+        givenDependency(orderRepository);
+        Injector.getInstance().seal();
+
+        RepositoryUser user = new RepositoryUser();
+
+        assertThat(user.users).isSameAs(userRepository);
+        assertThat(user.orders).isSameAs(orderRepository);
+    }
+
+    @Test
+    void otherInstantiationIsNotInjected() {
+        givenDependency(new UserRepository());
+
+        Throwable throwable = catchThrowable(RepositoryUser::new);
+
+        assertThat(throwable).isInstanceOf(InjectorException.class).hasMessage("No trainer found for interface " + Repository.class.getName() + " Failed to inject " + Repository.class.getName() + " orders in " + RepositoryUser.class.getName());
+    }
+
+    @Test
+    void otherInstantiationIsNotInjected_sealed() {
+        givenDependency(new UserRepository());
+        Injector.getInstance().seal();
+
+        Throwable throwable = catchThrowable(RepositoryUser::new);
+
+        assertThat(throwable).isInstanceOf(InjectorException.class).hasMessage("No trainer found for interface " + Repository.class.getName() + " Failed to inject " + Repository.class.getName() + " orders in " + RepositoryUser.class.getName());
+    }
+
+    @Test
+    void rawRegistration() {
+        givenDependency(new ArrayList<>(List.of(1, 2)));
+
+        assertThat(new NamesUser().names).isEmpty();
+    }
+
+    @Test
+    void typeLiteral() {
+        List<String> names = new ArrayList<>();
+        List<Integer> numbers = new ArrayList<>();
+        Injector.getInstance().add(new TypeLiteral<List<String>>() {}, names);
+        Injector.getInstance().add(new TypeLiteral<List<Integer>>() {}, numbers);
+
+        assertThat(new NamesUser().names).isSameAs(names);
+        assertThat(Injector.getInstance().resolve(new TypeLiteral<List<Integer>>() {})).isSameAs(numbers);
+        assertThat(Injector.getInstance().resolve(new TypeLiteral<List<Long>>() {})).isNull();
+    }
+
+    @Test
+    void typeLiteral_withoutTypeArgument() {
+        Throwable throwable = catchThrowable(() -> new RawTypeLiteral());
+
+        assertThat(throwable).isInstanceOf(InjectorException.class).hasMessageStartingWith("TypeLiteral must be created as direct anonymous subclass with a type argument");
+    }
+
+    @Test
+    void typeLiteral_equality() {
+        assertThat(new TypeLiteral<List<String>>() {}).isEqualTo(new TypeLiteral<List<String>>() {});
+        assertThat(new TypeLiteral<List<String>>() {}).isNotEqualTo(new TypeLiteral<List<Integer>>() {});
+        assertThat(new TypeLiteral<List<String>>() {}.toString()).isEqualTo("java.util.List<java.lang.String>");
+        assertThat(new TypeLiteral<List<String>>() {}.getRawType()).isEqualTo(List.class);
+    }
+
+    @Test
+    void typeLiteral_keyIsSharedByExpression() {
+        List<TypeLiteral<List<String>>> literals = new ArrayList<>();
+        for (int i = 0; i < 2; ++i) {
+            literals.add(new TypeLiteral<List<String>>() {});
+        }
+
+        assertThat(literals.get(0).key).isSameAs(literals.get(1).key);
+        assertThat(literals.get(0).getType()).isSameAs(literals.get(1).getType());
+        assertThat(literals.get(0).getType().getTypeName()).isEqualTo("java.util.List<java.lang.String>");
+    }
+
+    @Test
+    void providerOfParameterizedType() {
+        Injector.getInstance().addProvider(new UsersProvider());
+        Injector.getInstance().addProvider(new OrdersProvider());
+
+        ListUser user = new ListUser();
+
+        assertThat(user.users).hasSize(1).first().isInstanceOf(User.class);
+        assertThat(user.orders).hasSize(2).first().isInstanceOf(Order.class);
+    }
+
+    @Test
+    void providerThroughGenericSuperclass() {
+        Injector.getInstance().addProvider(new UserRepositoryProvider());
+
+        assertThat(Injector.getInstance().resolve(new TypeLiteral<Repository<User>>() {})).isInstanceOf(UserRepository.class);
+    }
+
+    @Test
+    void constructorInjection() {
+        Injector injector = new Injector();
+        UserRepository userRepository = new UserRepository();
+        OrderRepository orderRepository = new OrderRepository();
+        injector.add(orderRepository);
+        injector.add(userRepository);
+
+        injector.add(RepositoryUserWithConstructor.class);
+
+        RepositoryUserWithConstructor user = injector.resolve(RepositoryUserWithConstructor.class);
+        assertThat(user.users).isSameAs(userRepository);
+        assertThat(user.orders).isSameAs(orderRepository);
+    }
+
+    @Test
+    void genericTypeResolver() {
+        assertThat(GenericTypeResolver.resolve(Provider.class, UsersProvider.class, 0)).isEqualTo(List.class);
+        assertThat(GenericTypeResolver.resolveType(Provider.class, UsersProvider.class, 0).getTypeName()).isEqualTo("java.util.List<" + User.class.getName() + ">");
+        assertThat(GenericTypeResolver.resolve(Provider.class, UserRepositoryProvider.class, 0)).isEqualTo(Repository.class);
+        assertThat(GenericTypeResolver.resolveType(Provider.class, UserRepositoryProvider.class, 0).getTypeName()).isEqualTo(Repository.class.getName() + "<" + User.class.getName() + ">");
+    }
+
+    @Test
+    void genericTypeResolver_unresolvedTypeVariable() {
+        Throwable throwable = catchThrowable(() -> GenericTypeResolver.resolve(Provider.class, AnyProvider.class, 0));
+
+        assertThat(throwable).isInstanceOf(InjectorException.class).hasMessageStartingWith("Failed to resolve generic type");
+    }
+
+    public interface Repository<T> {
+    }
+
+    public static class User {
+    }
+
+    public static class Order {
+    }
+
+    public static class UserRepository implements Repository<User> {
+    }
+
+    public static class OrderRepository implements Repository<Order> {
+    }
+
+    @Component
+    public static class RepositoryUser {
+        @Inject
+        Repository<User> users;
+        @Inject
+        Repository<Order> orders;
+    }
+
+    public static class RepositoryUserWithConstructor {
+        final Repository<User> users;
+        final Repository<Order> orders;
+
+        @Inject
+        public RepositoryUserWithConstructor(Repository<User> users, Repository<Order> orders) {
+            this.users = users;
+            this.orders = orders;
+        }
+    }
+
+    @Component
+    public static class NamesUser {
+        @Inject
+        List<String> names;
+    }
+
+    @Component
+    public static class ListUser {
+        @Inject
+        List<User> users;
+        @Inject
+        List<Order> orders;
+    }
+
+    public static class UsersProvider implements Provider<List<User>> {
+        @Override
+        public List<User> get() {
+            return List.of(new User());
+        }
+    }
+
+    public static class OrdersProvider implements Provider<List<Order>> {
+        @Override
+        public List<Order> get() {
+            return List.of(new Order(), new Order());
+        }
+    }
+
+    public static abstract class RepositoryProvider<T> implements Provider<Repository<T>> {
+    }
+
+    public static abstract class AnyProvider<T> implements Provider<T> {
+    }
+
+    public static class UserRepositoryProvider extends RepositoryProvider<User> {
+        @Override
+        public Repository<User> get() {
+            return new UserRepository();
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static class RawTypeLiteral extends TypeLiteral {
+    }
+}
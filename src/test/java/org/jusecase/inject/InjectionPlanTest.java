@@ -0,0 +1,78 @@
+package org.jusecase.inject;
+
+import org.junit.jupiter.api.Test;
+import org.jusecase.inject.classes.BeanWithFinalField;
+import org.jusecase.inject.classes.BeanWithNamedDependency;
+import org.jusecase.inject.classes.BeanWithQualifiedConstructor;
+import org.jusecase.inject.classes.Driver;
+import org.jusecase.inject.classes.Primary;
+import org.jusecase.inject.classes.TestDriverDb1;
+import org.jusecase.inject.classes.TestServiceSubclass;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class InjectionPlanTest {
+
+    @Test
+    void onlyDeclaredFields() {
+        InjectionPlan plan = InjectionPlan.create(TestServiceSubclass.class);
+
+        assertThat(plan.declaringType).isEqualTo(TestServiceSubclass.class);
+        assertThat(plan.points).hasSize(1);
+        assertThat(plan.points[0].field.getName()).isEqualTo("driver");
+        assertThat(plan.points[0].qualifier).isNull();
+    }
+
+    @Test
+    void namesAreResolvedOnce() {
+        InjectionPlan plan = InjectionPlan.create(BeanWithNamedDependency.class);
+
+        assertThat(plan.points).extracting(p -> p.qualifier).containsExactlyInAnyOrder(QualifierKey.named("db1"), QualifierKey.named("db2"));
+    }
+
+    @Test
+    void setter() {
+        InjectionPlan plan = InjectionPlan.create(BeanWithNamedDependency.class);
+        BeanWithNamedDependency bean = new BeanWithNamedDependencyWithoutInjection();
+        TestDriverDb1 driver = new TestDriverDb1();
+
+        for (InjectionPoint point : plan.points) {
+            point.set(bean, driver);
+        }
+
+        assertThat(bean.driver1).isSameAs(driver);
+        assertThat(bean.driver2).isSameAs(driver);
+    }
+
+    @Test
+    void finalField() {
+        Throwable throwable = catchThrowable(() -> InjectionPlan.create(BeanWithFinalField.class));
+
+        assertThat(throwable)
+                .isInstanceOf(InjectorException.class)
+                .hasMessage("@Inject field must not be final. Failed to inject java.lang.String something in org.jusecase.inject.classes.BeanWithFinalField");
+    }
+
+    @Test
+    void constructor() {
+        InjectionPlan plan = InjectionPlan.create(BeanWithQualifiedConstructor.class);
+
+        ConstructorPlan constructor = plan.getConstructor();
+
+        assertThat(plan.getConstructor()).isSameAs(constructor);
+        assertThat(constructor.arguments).extracting(a -> (Object) a.type).containsExactly(Driver.class, String.class);
+        assertThat(constructor.arguments).extracting(a -> a.qualifier).containsExactly(QualifierKey.of(Primary.class), QualifierKey.named("host"));
+    }
+
+    @Test
+    void constructor_default() {
+        ConstructorPlan constructor = InjectionPlan.create(TestServiceSubclass.class).getConstructor();
+
+        assertThat(constructor.arguments).isEmpty();
+    }
+
+    // No @Component annotation, so nothing is injected on construction
+    private static class BeanWithNamedDependencyWithoutInjection extends BeanWithNamedDependency {
+    }
+}
@@ -0,0 +1,116 @@
+package org.jusecase.inject;
+
+import org.junit.jupiter.api.Test;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InjectorConcurrencyTest {
+    private static final int THREADS = 16;
+    private static final int ITERATIONS = 10_000;
+
+    private final Injector injector = new Injector();
+
+    @Test
+    void injectWhileTypesAreDiscovered() throws Exception {
+        injector.add(new Dependency());
+        injector.add("name", "value");
+
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int t = 0; t < THREADS; ++t) {
+            int offset = t;
+            tasks.add(() -> {
+                for (int i = 0; i < ITERATIONS; ++i) {
+                    switch ((i + offset) % 4) {
+                        case 0:
+                            Bean1 bean1 = new Bean1();
+                            injector.inject(bean1, Bean1.class);
+                            assertThat(bean1.dependency).isNotNull();
+                            break;
+                        case 1:
+                            Bean2 bean2 = new Bean2();
+                            injector.inject(bean2, Bean2.class);
+                            assertThat(bean2.name).isEqualTo("value");
+                            break;
+                        case 2:
+                            Bean3 bean3 = new Bean3();
+                            injector.inject(bean3, Bean3.class);
+                            injector.inject(bean3, Bean2.class);
+                            assertThat(bean3.dependency).isNotNull();
+                            assertThat(bean3.name).isEqualTo("value");
+                            break;
+                        default:
+                            injector.add("name" + offset, "value" + offset);
+                            assertThat(injector.resolve(Dependency.class)).isNotNull();
+                            break;
+                    }
+                }
+                return null;
+            });
+        }
+
+        runConcurrently(tasks);
+    }
+
+    @Test
+    void registerWhileResolving() throws Exception {
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int t = 0; t < THREADS; ++t) {
+            boolean writer = t % 2 == 0;
+            tasks.add(() -> {
+                for (int i = 0; i < ITERATIONS; ++i) {
+                    if (writer) {
+                        injector.add(new Dependency());
+                    } else {
+                        Dependency dependency = injector.resolve(Dependency.class);
+                        if (dependency != null) {
+                            Bean1 bean1 = new Bean1();
+                            injector.inject(bean1, Bean1.class);
+                            assertThat(bean1.dependency).isNotNull();
+                        }
+                    }
+                }
+                return null;
+            });
+        }
+
+        runConcurrently(tasks);
+
+        assertThat(injector.resolve(Dependency.class)).isNotNull();
+    }
+
+    private void runConcurrently(List<Callable<Void>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    public static class Dependency {
+    }
+
+    public static class Bean1 {
+        @Inject
+        Dependency dependency;
+    }
+
+    public static class Bean2 {
+        @Inject
+        @Named("name")
+        String name;
+    }
+
+    public static class Bean3 extends Bean2 {
+        @Inject
+        Dependency dependency;
+    }
+}
@@ -0,0 +1,121 @@
+package org.jusecase.inject;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.jusecase.inject.classes.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InjectorEventsTest implements ComponentTest {
+    private Recording recording;
+
+    @BeforeEach
+    void setUp() {
+        recording = new Recording();
+        recording.enable("org.jusecase.inject.Injection").withThreshold(Duration.ZERO);
+        recording.enable("org.jusecase.inject.ProviderCall").withThreshold(Duration.ZERO);
+        recording.enable("org.jusecase.inject.Construction").withThreshold(Duration.ZERO);
+        recording.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        recording.close();
+    }
+
+    @Test
+    void injection() throws Exception {
+        givenDependency(new TestDriver());
+
+        new TestGateway();
+
+        List<RecordedEvent> events = getEvents("org.jusecase.inject.Injection");
+        RecordedEvent event = events.stream().filter(e -> isClass(e, "declaringType", TestGateway.class)).findFirst().orElseThrow();
+        assertThat(event.getInt("fieldCount")).isEqualTo(1);
+        assertThat(event.getDuration()).isGreaterThanOrEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    void providerCall() throws Exception {
+        givenDependency("host", "localhost");
+        givenDependency("user", "root");
+        Injector.getInstance().addProvider(new DataSourceProvider());
+        Injector.getInstance().addProvider(new LoggerProvider());
+
+        new DataSourceUser();
+        new LoggerUser1();
+
+        List<RecordedEvent> events = getEvents("org.jusecase.inject.ProviderCall");
+        assertThat(events).hasSize(2);
+        assertThat(events.stream().anyMatch(e -> isClass(e, "providerClass", DataSourceProvider.class) && isClass(e, "providedType", DataSource.class) && isClass(e, "targetType", DataSourceUser.class))).isTrue();
+        assertThat(events.stream().anyMatch(e -> isClass(e, "providerClass", LoggerProvider.class) && isClass(e, "providedType", Logger.class) && isClass(e, "targetType", LoggerUser1.class))).isTrue();
+    }
+
+    @Test
+    void providerCall_sealed() throws Exception {
+        givenDependency("host", "localhost");
+        givenDependency("user", "root");
+        Injector.getInstance().addProvider(new DataSourceProvider());
+        Injector.getInstance().seal();
+
+        Injector.getInstance().resolve(DataSource.class);
+
+        List<RecordedEvent> events = getEvents("org.jusecase.inject.ProviderCall");
+        assertThat(events).hasSize(1);
+        assertThat((Object) events.get(0).getValue("targetType")).isNull();
+    }
+
+    @Test
+    void construction() throws Exception {
+        givenDependency("host", "localhost");
+        givenDependency("user", "root");
+        Injector.getInstance().add(DataSource.class);
+
+        List<RecordedEvent> events = getEvents("org.jusecase.inject.Construction");
+        assertThat(events).hasSize(1);
+        assertThat(isClass(events.get(0), "type", DataSource.class)).isTrue();
+    }
+
+    @Test
+    void threshold() throws Exception {
+        recording.close();
+        recording = new Recording();
+        recording.enable("org.jusecase.inject.Injection");
+        recording.start();
+        givenDependency(new TestDriver());
+
+        new TestGateway();
+
+        assertThat(getEvents("org.jusecase.inject.Injection")).isEmpty();
+    }
+
+    private List<RecordedEvent> getEvents(String name) throws Exception {
+        recording.stop();
+        Path file = Files.createTempFile("inject", ".jfr");
+        try {
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> e.getEventType().getName().equals(name))
+                    .filter(e -> e.getThread() != null && e.getThread().getJavaThreadId() == Thread.currentThread().getId())
+                    .collect(Collectors.toList());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private boolean isClass(RecordedEvent event, String field, Class<?> expected) {
+        RecordedClass recordedClass = event.getValue(field);
+        return recordedClass != null && recordedClass.getName().equals(expected.getName());
+    }
+}
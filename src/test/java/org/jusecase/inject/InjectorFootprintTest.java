@@ -0,0 +1,169 @@
+package org.jusecase.inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.jusecase.inject.classes.Driver;
+import org.jusecase.inject.classes.PluginDriver;
+import org.jusecase.inject.classes.TestDriver;
+
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class InjectorFootprintTest {
+    private final Injector injector = new Injector();
+    private PluginClassLoader pluginClassLoader;
+    private Class<?> pluginDriverClass;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        pluginClassLoader = new PluginClassLoader(PluginDriver.class);
+        pluginDriverClass = pluginClassLoader.loadClass(PluginDriver.class.getName());
+        injector.add("host", "localhost");
+    }
+
+    @Test
+    void footprint() {
+        injector.add(new TestDriver());
+        injector.add(pluginDriverClass);
+
+        InjectorFootprint footprint = injector.getFootprint();
+
+        assertThat(footprint.getRegistrations()).isEqualTo(injector.snapshot().size());
+        assertThat(footprint.getQualifiedRegistrations()).isEqualTo(footprint.getRegistrations() - 4); // TestDriver, Driver, PluginDriver, Object
+        assertThat(footprint.getRegistrationsByClassLoader()).containsEntry("plugin", 1).containsKey("bootstrap");
+        assertThat(footprint.getInjectionPlans()).isGreaterThanOrEqualTo(1);
+        assertThat(footprint.getInjectionPoints()).isGreaterThanOrEqualTo(1);
+        assertThat(footprint.toString()).startsWith(footprint.getRegistrations() + " registrations (" + footprint.getQualifiedRegistrations() + " qualified), ");
+    }
+
+    @Test
+    void evict() {
+        injector.add(pluginDriverClass);
+        injector.add("plugin", injector.resolve(pluginDriverClass));
+
+        assertThat(injector.evict(pluginClassLoader)).isEqualTo(6);
+
+        assertThat(injector.resolve(Driver.class)).isNull();
+        assertThat(injector.resolve(pluginDriverClass)).isNull();
+        assertThat(injector.getFootprint().getRegistrationsByClassLoader()).doesNotContainKey("plugin").containsKey("bootstrap");
+    }
+
+    @Test
+    void evict_otherClassLoader() {
+        injector.add(pluginDriverClass);
+
+        assertThat(injector.evict(new PluginClassLoader(PluginDriver.class))).isEqualTo(0);
+
+        assertThat(injector.resolve(Driver.class)).isNotNull();
+    }
+
+    @Test
+    void evict_bootstrapClassLoader() {
+        Throwable throwable = catchThrowable(() -> injector.evict(null));
+
+        assertThat(throwable).isInstanceOf(InjectorException.class).hasMessage("The bootstrap class loader cannot be evicted.");
+    }
+
+    @Test
+    void evict_sealed() {
+        injector.add(pluginDriverClass);
+        injector.seal();
+
+        injector.evict(pluginClassLoader);
+
+        assertThat(injector.isSealed()).isTrue();
+        assertThat(injector.resolve(Driver.class)).isNull();
+        assertThat(injector.resolve(pluginDriverClass)).isNull();
+    }
+
+    @Test
+    void evict_baseline() {
+        InjectorSnapshot baseline = Injector.createSnapshot(i -> {
+            i.add("host", "localhost");
+            i.add(pluginDriverClass);
+        });
+        int baselineSize = baseline.size();
+        Injector fork = new Injector(baseline);
+        fork.add(new TestDriver());
+
+        assertThat(fork.evict(pluginClassLoader)).isEqualTo(3);
+
+        assertThat(fork.resolve(Driver.class)).isInstanceOf(TestDriver.class);
+        assertThat(fork.resolve(pluginDriverClass)).isNull();
+        assertThat(baseline.size()).isEqualTo(baselineSize);
+    }
+
+    @Test
+    void evictedClassLoaderIsCollected() throws Exception {
+        injector.enableMetrics();
+        injector.add(pluginDriverClass);
+        injector.evict(pluginClassLoader);
+
+        WeakReference<ClassLoader> reference = new WeakReference<>(pluginClassLoader);
+        pluginClassLoader = null;
+        pluginDriverClass = null;
+
+        for (int i = 0; i < 50 && reference.get() != null; ++i) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertThat(reference.get()).isNull();
+    }
+
+    @Test
+    void evictedClassLoaderIsCollected_sealed() throws Exception {
+        injector.add(pluginDriverClass);
+        injector.seal();
+        assertThat(injector.resolve(pluginDriverClass)).isNotNull();
+        assertThat(injector.resolve(Driver.class)).isNotNull();
+        injector.evict(pluginClassLoader);
+
+        WeakReference<ClassLoader> reference = new WeakReference<>(pluginClassLoader);
+        pluginClassLoader = null;
+        pluginDriverClass = null;
+
+        for (int i = 0; i < 50 && reference.get() != null; ++i) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertThat(reference.get()).isNull();
+        assertThat(injector.resolve(Driver.class)).isNull();
+    }
+
+    private static class PluginClassLoader extends ClassLoader {
+        private final Class<?> pluginClass;
+
+        PluginClassLoader(Class<?> pluginClass) {
+            super("plugin", InjectorFootprintTest.class.getClassLoader());
+            this.pluginClass = pluginClass;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (name.equals(pluginClass.getName())) {
+                synchronized (getClassLoadingLock(name)) {
+                    Class<?> clazz = findLoadedClass(name);
+                    if (clazz == null) {
+                        byte[] bytes = readClass();
+                        clazz = defineClass(name, bytes, 0, bytes.length);
+                    }
+                    return clazz;
+                }
+            }
+            return super.loadClass(name, resolve);
+        }
+
+        private byte[] readClass() throws ClassNotFoundException {
+            try (InputStream inputStream = pluginClass.getResourceAsStream(pluginClass.getSimpleName() + ".class")) {
+                return inputStream.readAllBytes();
+            } catch (Exception e) {
+                throw new ClassNotFoundException(pluginClass.getName(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package org.jusecase.inject;
+
+import org.junit.jupiter.api.Test;
+import org.jusecase.inject.classes.*;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InjectorMetricsTest implements ComponentTest {
+
+    @Test
+    void disabledByDefault() {
+        assertThat(Injector.getInstance().getMetrics()).isNull();
+    }
+
+    @Test
+    void injections() {
+        InjectorMetrics metrics = Injector.getInstance().enableMetrics();
+        givenDependency(new TestDriver());
+
+        new TestGateway();
+        new TestGateway();
+        new TestServiceSubclass();
+
+        assertThat(metrics.getInjections()).containsOnlyKeys(TestGateway.class, TestService.class, TestServiceSubclass.class, TestDriver.class);
+        assertThat(metrics.getInjections().get(TestGateway.class).getCount()).isEqualTo(2);
+        assertThat(metrics.getInjections().get(TestServiceSubclass.class).getCount()).isEqualTo(1);
+        assertThat(metrics.getInjectionCounts()).containsEntry(TestGateway.class.getName(), 2L);
+    }
+
+    @Test
+    void providerCalls() {
+        InjectorMetrics metrics = Injector.getInstance().enableMetrics();
+        givenDependency("host", "localhost");
+        givenDependency("user", "root");
+        Injector.getInstance().addProvider(new DataSourceProvider());
+        Injector.getInstance().addProvider(new LoggerProvider());
+
+        new DataSourceUser();
+        new DataSourceUser();
+        new LoggerUser1();
+
+        LatencySnapshot dataSourceProvider = metrics.getProviderCalls().get(DataSourceProvider.class);
+        assertThat(dataSourceProvider.getCount()).isEqualTo(2);
+        assertThat(dataSourceProvider.getPercentile(99)).isLessThanOrEqualTo(dataSourceProvider.getMaxTime());
+        assertThat(metrics.getProviderCalls().get(LoggerProvider.class).getCount()).isEqualTo(1);
+        assertThat(metrics.getProviderCallCounts()).containsEntry(DataSourceProvider.class.getName(), 2L);
+    }
+
+    @Test
+    void providerCalls_sealed() {
+        InjectorMetrics metrics = Injector.getInstance().enableMetrics();
+        givenDependency("host", "localhost");
+        givenDependency("user", "root");
+        Injector.getInstance().addProvider(new DataSourceProvider());
+        Injector.getInstance().addProvider(new LoggerProvider());
+        Injector.getInstance().seal();
+
+        new DataSourceUser();
+        new LoggerUser1();
+
+        assertThat(metrics.getProviderCalls().get(DataSourceProvider.class).getCount()).isEqualTo(1);
+        assertThat(metrics.getProviderCalls().get(LoggerProvider.class).getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void registrySize() {
+        InjectorMetrics metrics = Injector.getInstance().enableMetrics();
+        givenDependency(new TestDriver());
+        givenDependency("host", "localhost");
+
+        assertThat(metrics.getRegistrySize()).isGreaterThan(0);
+    }
+
+    @Test
+    void disable() {
+        givenDependency(new TestDriver());
+        InjectorMetrics metrics = Injector.getInstance().enableMetrics();
+
+        Injector.getInstance().disableMetrics();
+        new TestGateway();
+
+        assertThat(Injector.getInstance().getMetrics()).isNull();
+        assertThat(metrics.getInjections()).isEmpty();
+    }
+
+    @Test
+    void reset() {
+        InjectorMetrics metrics = Injector.getInstance().enableMetrics();
+        givenDependency(new TestDriver());
+        new TestGateway();
+
+        Injector.getInstance().reset();
+        givenDependency(new TestDriver());
+        new TestGateway();
+
+        assertThat(Injector.getInstance().getMetrics()).isSameAs(metrics);
+        assertThat(metrics.getInjections().get(TestGateway.class).getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void mbean() throws Exception {
+        InjectorMetrics metrics = Injector.getInstance().enableMetrics();
+        givenDependency(new TestDriver());
+        new TestGateway();
+
+        metrics.registerMBean();
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(InjectorMetrics.DEFAULT_OBJECT_NAME);
+
+            assertThat((Integer) server.getAttribute(name, "RegistrySize")).isGreaterThan(0);
+            TabularData injectionCounts = (TabularData) server.getAttribute(name, "InjectionCounts");
+            assertThat(injectionCounts.get(new Object[]{TestGateway.class.getName()}).get("value")).isEqualTo(1L);
+        } finally {
+            metrics.unregisterMBean();
+        }
+    }
+}
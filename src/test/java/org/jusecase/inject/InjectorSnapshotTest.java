@@ -0,0 +1,87 @@
+package org.jusecase.inject;
+
+import org.junit.jupiter.api.Test;
+import org.jusecase.inject.classes.*;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class InjectorSnapshotTest implements ComponentTest {
+    private static final TestDriver driver = new TestDriver();
+    private static final InjectorSnapshot baseline = Injector.createSnapshot(injector -> {
+        injector.add(driver);
+        injector.add("host", "localhost");
+        injector.add("user", "root");
+        injector.addProvider(new DataSourceProvider());
+    });
+
+    @Override
+    public InjectorSnapshot getInjectorBaseline() {
+        return baseline;
+    }
+
+    @Test
+    void baseline() {
+        assertThat(new TestGateway().getDriver()).isSameAs(driver);
+        assertThat(new DataSourceUser().dataSource.getHostName()).isEqualTo("localhost");
+        assertThat(baseline.size()).isEqualTo(Injector.getInstance().snapshot().size());
+    }
+
+    @Test
+    void override() {
+        TestDriverSubclass driverSubclass = new TestDriverSubclass();
+        givenDependency(driverSubclass);
+        givenDependency("host", "remote");
+
+        assertThat(new TestGateway().getDriver()).isSameAs(driverSubclass);
+        assertThat(new DataSourceUser().dataSource.getHostName()).isEqualTo("remote");
+        assertThat(new Injector(baseline).resolve(Driver.class)).isSameAs(driver);
+    }
+
+    @Test
+    void snapshotOfFork() {
+        TestGateway gateway = new TestGateway();
+        givenDependency(gateway);
+
+        Injector fork = new Injector(Injector.getInstance().snapshot());
+
+        assertThat(fork.resolve(Gateway.class)).isSameAs(gateway);
+        assertThat(fork.resolve(Driver.class)).isSameAs(driver);
+    }
+
+    @Test
+    void implementations() {
+        TestDriverSubclass driverSubclass = new TestDriverSubclass();
+        givenDependency(driverSubclass);
+
+        assertThat(Injector.getInstance().getImplementations()).contains(driverSubclass).doesNotContain(driver);
+    }
+
+    @Test
+    void sealed() {
+        Injector.getInstance().seal();
+
+        assertThat(new TestGateway().getDriver()).isSameAs(driver);
+    }
+
+    @Test
+    void missingQualifier() {
+        Injector injector = new Injector(Injector.createSnapshot(i -> i.add("db1", new TestDriverDb1())));
+        injector.add("db3", new TestDriver());
+
+        Throwable throwable = catchThrowable(() -> injector.verify(List.of(BeanWithNamedDependency.class)));
+
+        assertThat(throwable).hasMessage("Verification failed for 1 injection points:\nNo dependency named db2, got [db1, db3]. Failed to inject org.jusecase.inject.classes.Driver driver2 in org.jusecase.inject.classes.BeanWithNamedDependency");
+    }
+
+    @Test
+    void reset() {
+        Injector injector = new Injector(baseline);
+
+        injector.reset();
+
+        assertThat(injector.resolve(Driver.class)).isNull();
+    }
+}
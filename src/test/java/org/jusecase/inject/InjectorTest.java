@@ -3,6 +3,15 @@ package org.jusecase.inject;
 import org.junit.jupiter.api.Test;
 import org.jusecase.inject.classes.*;
 
+import javax.inject.Provider;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 
@@ -128,6 +137,16 @@ public class InjectorTest implements ComponentTest {
                 .hasMessage("@Inject field must not be final. Failed to inject java.lang.String something in org.jusecase.inject.classes.BeanWithFinalField");
     }
 
+    @Test
+    void bean_staticField() {
+        TestDriver driver = new TestDriver();
+        givenDependency(driver);
+
+        new BeanWithStaticField();
+
+        assertThat(BeanWithStaticField.getDriver()).isSameAs(driver);
+    }
+
     @Test
     void bean() {
         TestDriver testDriver = new TestDriver();
@@ -177,6 +196,94 @@ public class InjectorTest implements ComponentTest {
         assertThat(loggerUser2.logger.getClazz()).isEqualTo(LoggerUser2.class);
     }
 
+    @Test
+    void logger_cached() {
+        LoggerProvider loggerProvider = new LoggerProvider();
+        Injector.getInstance().addProvider(loggerProvider, true);
+        LoggerUser1 loggerUser1 = new LoggerUser1();
+        LoggerUser1 anotherLoggerUser1 = new LoggerUser1();
+        LoggerUser2 loggerUser2 = new LoggerUser2();
+
+        assertThat(loggerUser1.logger.getClazz()).isEqualTo(LoggerUser1.class);
+        assertThat(loggerUser1.logger).isSameAs(anotherLoggerUser1.logger);
+        assertThat(loggerUser2.logger.getClazz()).isEqualTo(LoggerUser2.class);
+        assertThat(Injector.getInstance().resolve(LoggerProvider.class)).isSameAs(loggerProvider);
+    }
+
+    @Test
+    void logger_resolve() {
+        Injector.getInstance().addProvider(new LoggerProvider());
+
+        assertThat(Injector.getInstance().resolve(Logger.class, LoggerUser2.class).getClazz()).isEqualTo(LoggerUser2.class);
+    }
+
+    @Test
+    void logger_resolveSealed() {
+        Injector.getInstance().addProvider(new LoggerProvider(), true);
+        Injector.getInstance().seal();
+
+        Logger logger = Injector.getInstance().resolve(Logger.class, LoggerUser2.class);
+
+        assertThat(logger.getClazz()).isEqualTo(LoggerUser2.class);
+        assertThat(Injector.getInstance().resolve(Logger.class, LoggerUser2.class)).isSameAs(logger);
+    }
+
+    @Test
+    void logger_cachingProvider() {
+        Injector.getInstance().addProvider(new CachingPerClassProvider<>(new LoggerProvider()));
+        LoggerUser1 loggerUser1 = new LoggerUser1();
+        LoggerUser1 anotherLoggerUser1 = new LoggerUser1();
+
+        assertThat(loggerUser1.logger).isSameAs(anotherLoggerUser1.logger);
+    }
+
+    @Test
+    void lazy() {
+        LazyUser lazyUser = new LazyUser();
+        TestDriver testDriver = new TestDriver();
+        givenDependency(testDriver);
+        givenDependency("host", "localhost");
+
+        assertThat(lazyUser.driver.get()).isSameAs(testDriver);
+        assertThat(lazyUser.driver.get()).isSameAs(testDriver);
+        assertThat(lazyUser.host.get()).isEqualTo("localhost");
+    }
+
+    @Test
+    void lazy_missing() {
+        LazyUser lazyUser = new LazyUser();
+
+        Throwable throwable = catchThrowable(() -> lazyUser.driver.get());
+
+        assertThat(throwable).isInstanceOf(InjectorException.class).hasMessage("No trainer found for interface org.jusecase.inject.classes.Driver Failed to inject org.jusecase.inject.Lazy driver in org.jusecase.inject.classes.LazyUser");
+    }
+
+    @Test
+    void lazy_concurrent() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        Injector.getInstance().addProvider(new Provider<Driver>() {
+            @Override
+            public Driver get() {
+                calls.incrementAndGet();
+                return new TestDriver();
+            }
+        });
+        LazyUser lazyUser = new LazyUser();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Driver>> tasks = Collections.nCopies(64, () -> lazyUser.driver.get());
+            Set<Driver> drivers = new HashSet<>();
+            for (Future<Driver> future : executor.invokeAll(tasks)) {
+                drivers.add(future.get());
+            }
+            assertThat(drivers).hasSize(1);
+            assertThat(calls.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     void constructorInjection() {
         givenDependency(new TestDriver());
@@ -202,4 +309,278 @@ public class InjectorTest implements ComponentTest {
         assertThat(dataSourceMock.getHostName()).isNull();
         assertThat(dataSourceMock.getUserName()).isNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    void sealed() {
+        TestDriver testDriver = new TestDriver();
+        givenDependency(testDriver);
+        givenDependency("host", "localhost");
+        givenDependency("user", "root");
+        DataSourceProvider dataSourceProvider = new DataSourceProvider();
+        Injector.getInstance().addProvider(dataSourceProvider);
+        Injector.getInstance().addProvider(new LoggerProvider());
+
+        Injector.getInstance().seal();
+
+        assertThat(Injector.getInstance().isSealed()).isTrue();
+        assertThat(new TestGateway().getDriver()).isSameAs(testDriver);
+        assertThat(Injector.getInstance().resolve(Driver.class)).isSameAs(testDriver);
+        assertThat(Injector.getInstance().resolve(DataSourceProvider.class)).isSameAs(dataSourceProvider);
+        assertThat(new DataSourceUser().dataSource).isNotSameAs(new DataSourceUser().dataSource);
+        assertThat(new LoggerUser1().logger.getClazz()).isEqualTo(LoggerUser1.class);
+        assertThat(new DataSource().getHostName()).isEqualTo("localhost");
+    }
+
+    @Test
+    void sealed_add() {
+        Injector.getInstance().seal();
+
+        Throwable throwable = catchThrowable(() -> givenDependency(new TestDriver()));
+
+        assertThat(throwable).isInstanceOf(InjectorException.class).hasMessage("Injector is sealed, no more dependencies can be added.");
+    }
+
+    @Test
+    void sealed_addClass() {
+        Injector.getInstance().seal();
+
+        Throwable throwable = catchThrowable(() -> givenDependency(TestDriver.class));
+
+        assertThat(throwable).isInstanceOf(InjectorException.class).hasMessage("Injector is sealed, no more dependencies can be added.");
+    }
+
+    @Test
+    void sealed_reset() {
+        Injector.getInstance().seal();
+
+        Injector.getInstance().reset();
+
+        assertThat(Injector.getInstance().isSealed()).isFalse();
+        givenDependency(new TestDriver());
+    }
+
+    @Test
+    void generatedInjector() {
+        TestDriver testDriver = new TestDriver();
+        givenDependency(testDriver);
+        givenDependency("host", "localhost");
+        TestGateway testGateway = new TestGateway();
+        givenDependency(testGateway);
+        int injectCount = BeanWithGeneratedInjector$$Injector.injectCount;
+
+        BeanWithGeneratedInjector bean = new BeanWithGeneratedInjector();
+
+        assertThat(bean.getDriver()).isSameAs(testDriver);
+        assertThat(bean.getHost()).isEqualTo("localhost");
+        assertThat(bean.getGateway()).isSameAs(testGateway);
+        assertThat(BeanWithGeneratedInjector$$Injector.injectCount - injectCount).isEqualTo(1);
+    }
+
+    @Test
+    void generatedInjector_constructorInjection() {
+        TestDriver testDriver = new TestDriver();
+        givenDependency(testDriver);
+        int newInstanceCount = BeanWithGeneratedConstructorInjection$$Injector.newInstanceCount;
+
+        Injector.getInstance().add(BeanWithGeneratedConstructorInjection.class);
+
+        assertThat(Injector.getInstance().resolve(BeanWithGeneratedConstructorInjection.class).getDriver()).isSameAs(testDriver);
+        assertThat(BeanWithGeneratedConstructorInjection$$Injector.newInstanceCount - newInstanceCount).isEqualTo(1);
+    }
+
+    @Test
+    void generatedInjector_constructorInjection_missingDependencies() {
+        Throwable throwable = catchThrowable(() -> Injector.getInstance().add(BeanWithGeneratedConstructorInjection.class));
+        assertThat(throwable).isInstanceOf(InjectorException.class).hasMessage("No implementation found. Failed to inject org.jusecase.inject.classes.Driver arg0 in org.jusecase.inject.classes.BeanWithGeneratedConstructorInjection");
+    }
+
+    @Test
+    void verify() {
+        givenDependency("host", "localhost");
+        givenDependency("user", "root");
+        givenDependency(new TestDriver());
+        givenDependency(new TestGateway());
+
+        Injector.getInstance().verify();
+    }
+
+    @Test
+    void verify_missing() {
+        givenDependency("host", "localhost");
+
+        Throwable throwable = catchThrowable(() -> Injector.getInstance().verify());
+
+        assertThat(throwable).isInstanceOf(InjectorException.class).hasMessage("Verification failed for 5 injection points:\n" +
+                "No dependency named user, got [host]. Failed to inject java.lang.String userName in org.jusecase.inject.classes.DataSource\n" +
+                "No implementation found. Failed to inject org.jusecase.inject.classes.Driver driver in org.jusecase.inject.classes.TestGateway\n" +
+                "No implementation found. Failed to inject org.jusecase.inject.classes.Driver driver in org.jusecase.inject.classes.TestServiceSubclass\n" +
+                "No implementation found. Failed to inject org.jusecase.inject.classes.Gateway gateway in org.jusecase.inject.classes.TestService\n" +
+                "No implementation found. Failed to inject org.jusecase.inject.classes.Gateway gateway2 in org.jusecase.inject.classes.TestService");
+    }
+
+    @Test
+    void verify_sealed() {
+        givenDependency(new TestDriver());
+        Injector.getInstance().seal();
+
+        Injector.getInstance().verify(List.of(TestGateway.class));
+    }
+
+    @Test
+    void verify_invalidField() {
+        Throwable throwable = catchThrowable(() -> Injector.getInstance().verify(List.of(BeanWithFinalField.class)));
+
+        assertThat(throwable).isInstanceOf(InjectorException.class).hasMessage("Verification failed for 1 injection points:\n" +
+                "@Inject field must not be final. Failed to inject java.lang.String something in org.jusecase.inject.classes.BeanWithFinalField");
+    }
+
+    @Test
+    void warmUp() {
+        WarmUpReport report = Injector.getInstance().warmUp();
+
+        assertThat(report.getDurations()).containsOnlyKeys(DataSource.class, TestGateway.class, TestServiceSubclass.class);
+        assertThat(report.getTotalDuration()).isGreaterThan(Duration.ZERO);
+        assertThat(report.toString()).startsWith("Warm-up of 3 classes took ");
+    }
+
+    @Test
+    void warmUp_withoutSideEffects() {
+        AtomicInteger calls = new AtomicInteger();
+        Injector.getInstance().addProvider(new Provider<Driver>() {
+            @Override
+            public Driver get() {
+                calls.incrementAndGet();
+                return new TestDriver();
+            }
+        });
+        givenDependency(new TestGateway());
+        calls.set(0);
+
+        WarmUpReport report = Injector.getInstance().warmUp(List.of(TestGateway.class, TestServiceSubclass.class, DataSourceProvider.class));
+
+        assertThat(report.getDurations()).containsOnlyKeys(TestGateway.class, TestServiceSubclass.class, DataSourceProvider.class);
+        assertThat(report.getDuration(TestGateway.class)).isGreaterThan(Duration.ZERO);
+        assertThat(calls.get()).isZero();
+    }
+
+    @Test
+    void warmUp_invalidField() {
+        Throwable throwable = catchThrowable(() -> Injector.getInstance().warmUp(List.of(BeanWithFinalField.class)));
+
+        assertThat(throwable).isInstanceOf(InjectorException.class).hasMessage("@Inject field must not be final. Failed to inject java.lang.String something in org.jusecase.inject.classes.BeanWithFinalField");
+    }
+
+    @Test
+    void superInterface() {
+        TestSqlDriver driver = new TestSqlDriver();
+        givenDependency(driver);
+
+        assertThat(Injector.getInstance().resolve(SqlDriver.class)).isSameAs(driver);
+        assertThat(Injector.getInstance().resolve(Driver.class)).isSameAs(driver);
+        assertThat(Injector.getInstance().resolve(Object.class)).isSameAs(driver);
+    }
+
+    @Test
+    void object() {
+        Object object = new Object();
+        givenDependency(object);
+
+        assertThat(Injector.getInstance().resolve(Object.class)).isSameAs(object);
+    }
+
+    @Test
+    void addAll() {
+        TestSqlDriver driver = new TestSqlDriver();
+        DataSourceProvider provider = new DataSourceProvider();
+
+        Injector.getInstance().addAll(List.of(driver, provider));
+
+        assertThat(Injector.getInstance().resolve(Driver.class)).isSameAs(driver);
+        assertThat(Injector.getInstance().resolve(SqlDriver.class)).isSameAs(driver);
+        assertThat(Injector.getInstance().resolve(DataSourceProvider.class)).isSameAs(provider);
+        assertThat(Injector.getInstance().resolve(Provider.class)).isSameAs(provider);
+    }
+
+    @Test
+    void addAll_ambiguous() {
+        Injector.getInstance().addAll(List.of(new TestDriver(), new TestSqlDriver()));
+
+        Throwable throwable = catchThrowable(() -> Injector.getInstance().resolve(Driver.class));
+
+        assertThat(throwable).isInstanceOf(InjectorException.class).hasMessage("Ambiguous dependency org.jusecase.inject.classes.Driver, got [org.jusecase.inject.classes.TestDriver, org.jusecase.inject.classes.TestSqlDriver].");
+        assertThat(Injector.getInstance().getImplementations()).hasSize(2);
+    }
+
+    @Test
+    void addAll_ambiguous_sealed() {
+        Injector.getInstance().addAll(List.of(new TestDriver(), new TestSqlDriver()));
+        Injector.getInstance().seal();
+
+        Throwable throwable = catchThrowable(TestGateway::new);
+
+        assertThat(throwable).isInstanceOf(InjectorException.class).hasMessageStartingWith("Ambiguous dependency org.jusecase.inject.classes.Driver");
+    }
+
+    @Test
+    void addAll_registered() {
+        TestSqlDriver driver = new TestSqlDriver();
+        Injector.getInstance().add(new TestDriver());
+
+        Injector.getInstance().addAll(List.of(driver));
+
+        Throwable throwable = catchThrowable(() -> Injector.getInstance().resolve(Driver.class));
+        assertThat(throwable).isInstanceOf(InjectorException.class).hasMessage("Ambiguous dependency org.jusecase.inject.classes.Driver, got [org.jusecase.inject.classes.TestDriver, org.jusecase.inject.classes.TestSqlDriver].");
+        assertThat(Injector.getInstance().resolve(SqlDriver.class)).isSameAs(driver);
+        assertThat(Injector.getInstance().resolve(Object.class)).isSameAs(driver);
+    }
+
+    @Test
+    void addAll_object() {
+        Object object = new Object();
+
+        Injector.getInstance().addAll(List.of(new TestDriver(), object));
+
+        assertThat(Injector.getInstance().resolve(Object.class)).isSameAs(object);
+    }
+
+    @Test
+    void addAll_exactMatch() {
+        TestDriver driver = new TestDriver();
+        TestDriverSubclass driverSubclass = new TestDriverSubclass();
+
+        Injector.getInstance().addAll(List.of(driverSubclass, driver));
+
+        assertThat(Injector.getInstance().resolve(TestDriver.class)).isSameAs(driver);
+        assertThat(Injector.getInstance().resolve(TestDriverSubclass.class)).isSameAs(driverSubclass);
+    }
+
+    @Test
+    void addAll_named() {
+        TestDriverDb1 driver1 = new TestDriverDb1();
+        TestDriverDb2 driver2 = new TestDriverDb2();
+
+        Injector.getInstance().addAll(List.of(driver1, driver2));
+
+        BeanWithNamedDependency bean = new BeanWithNamedDependency();
+        assertThat(bean.driver1).isSameAs(driver1);
+        assertThat(bean.driver2).isSameAs(driver2);
+    }
+
+    @Test
+    void addAll_verify() {
+        Injector.getInstance().addAll(List.of(new TestDriver(), new TestSqlDriver()));
+
+        Throwable throwable = catchThrowable(() -> Injector.getInstance().verify(List.of(TestGateway.class)));
+
+        assertThat(throwable).isInstanceOf(InjectorException.class).hasMessage("Verification failed for 1 injection points:\nAmbiguous dependency org.jusecase.inject.classes.Driver, got [org.jusecase.inject.classes.TestDriver, org.jusecase.inject.classes.TestSqlDriver]. Failed to inject org.jusecase.inject.classes.Driver driver in org.jusecase.inject.classes.TestGateway");
+    }
+
+    @Test
+    void addAll_sealed() {
+        Injector.getInstance().seal();
+
+        Throwable throwable = catchThrowable(() -> Injector.getInstance().addAll(List.of(new TestDriver())));
+
+        assertThat(throwable).isInstanceOf(InjectorException.class).hasMessage("Injector is sealed, no more dependencies can be added.");
+    }
+}
@@ -0,0 +1,283 @@
+package org.jusecase.inject;
+
+import org.junit.jupiter.api.Test;
+import org.jusecase.inject.classes.Formatter;
+import org.jusecase.inject.classes.LoggerProvider;
+import org.jusecase.inject.classes.RequestContext;
+
+import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assertions.entry;
+
+public class MultibindingTest implements ComponentTest {
+
+    @Test
+    void list() {
+        StartHandler startHandler = new StartHandler();
+        StopHandler stopHandler = new StopHandler();
+        givenDependency(startHandler);
+        givenDependency(stopHandler);
+        givenDependency("unrelated");
+
+        Dispatcher dispatcher = new Dispatcher();
+
+        assertThat(dispatcher.handlers).containsExactly(startHandler, stopHandler);
+        assertThat(dispatcher.uniqueHandlers).containsExactly(startHandler, stopHandler);
+    }
+
+    @Test
+    void list_immutable() {
+        givenDependency(new StartHandler());
+
+        Dispatcher dispatcher = new Dispatcher();
+
+        Throwable throwable = catchThrowable(() -> dispatcher.handlers.add(new StopHandler()));
+        assertThat(throwable).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void list_empty() {
+        Dispatcher dispatcher = new Dispatcher();
+
+        assertThat(dispatcher.handlers).isEmpty();
+        assertThat(dispatcher.uniqueHandlers).isEmpty();
+        assertThat(dispatcher.namedHandlers).isEmpty();
+    }
+
+    @Test
+    void list_ambiguous() {
+        StartHandler startHandler = new StartHandler();
+        StopHandler stopHandler = new StopHandler();
+        Injector.getInstance().addAll(List.of(stopHandler, startHandler));
+
+        Dispatcher dispatcher = new Dispatcher();
+
+        assertThat(dispatcher.handlers).containsExactly(startHandler, stopHandler);
+    }
+
+    @Test
+    void list_qualified() {
+        StartHandler startHandler = new StartHandler();
+        StopHandler stopHandler = new StopHandler();
+        Injector.getInstance().add("start", startHandler);
+        Injector.getInstance().add(stopHandler);
+
+        Dispatcher dispatcher = new Dispatcher();
+
+        assertThat(dispatcher.handlers).containsExactly(startHandler, stopHandler);
+    }
+
+    @Test
+    void list_sealed() {
+        StartHandler startHandler = new StartHandler();
+        givenDependency(startHandler);
+        Injector.getInstance().seal();
+
+        Dispatcher dispatcher = new Dispatcher();
+
+        assertThat(dispatcher.handlers).containsExactly(startHandler);
+    }
+
+    @Test
+    void list_baseline() {
+        StartHandler startHandler = new StartHandler();
+        StopHandler stopHandler = new StopHandler();
+        Injector injector = new Injector(Injector.createSnapshot(i -> i.add(startHandler)));
+        injector.add(stopHandler);
+
+        assertThat(injector.getImplementations(Handler.class)).containsExactly(startHandler, stopHandler);
+    }
+
+    @Test
+    void list_exactRegistrationWins() {
+        List<Handler> handlers = List.of(new StopHandler());
+        givenDependency(new StartHandler());
+        Injector.getInstance().add(new TypeLiteral<List<Handler>>() {}, handlers);
+
+        Dispatcher dispatcher = new Dispatcher();
+
+        assertThat(dispatcher.handlers).isSameAs(handlers);
+    }
+
+    @Test
+    void map() {
+        StartHandler startHandler = new StartHandler();
+        StopHandler stopHandler = new StopHandler();
+        Injector.getInstance().add("stop", stopHandler);
+        Injector.getInstance().add("start", startHandler);
+        Injector.getInstance().add("name", "value");
+        givenDependency(new StopHandler());
+
+        Dispatcher dispatcher = new Dispatcher();
+
+        assertThat(dispatcher.namedHandlers).containsExactly(entry("start", startHandler), entry("stop", stopHandler));
+    }
+
+    @Test
+    void map_sameNameForOtherType() {
+        StartHandler startHandler = new StartHandler();
+        Injector.getInstance().add("db", startHandler);
+        Injector.getInstance().add("db", "jdbc:url");
+
+        Dispatcher dispatcher = new Dispatcher();
+
+        assertThat(dispatcher.namedHandlers).containsExactly(entry("db", startHandler));
+    }
+
+    @Test
+    void rawCollectionIsNotInjected() {
+        StartHandler startHandler = new StartHandler();
+        givenDependency(startHandler);
+        givenDependency(new ArrayList<>(List.of("unrelated")));
+
+        Dispatcher dispatcher = new Dispatcher();
+
+        assertThat(dispatcher.handlers).containsExactly(startHandler);
+    }
+
+    @Test
+    void rawCollectionIsNotInjected_sealed() {
+        StartHandler startHandler = new StartHandler();
+        givenDependency(startHandler);
+        givenDependency(new ArrayList<>(List.of("unrelated")));
+        Injector.getInstance().seal();
+
+        Dispatcher dispatcher = new Dispatcher();
+
+        assertThat(dispatcher.handlers).containsExactly(startHandler);
+    }
+
+    @Test
+    void constructor() {
+        StartHandler startHandler = new StartHandler();
+        givenDependency(startHandler);
+
+        ConstructorDispatcher dispatcher = Injector.getInstance().newInstance(ConstructorDispatcher.class);
+
+        assertThat(dispatcher.handlers).containsExactly(startHandler);
+    }
+
+    @Test
+    void lazy() {
+        LazyDispatcher dispatcher = new LazyDispatcher();
+        StartHandler startHandler = new StartHandler();
+        givenDependency(startHandler);
+
+        assertThat(dispatcher.handlers.get()).containsExactly(startHandler);
+    }
+
+    @Test
+    void bootstrap() {
+        Injector injector = new Injector();
+
+        injector.bootstrap(Arrays.asList(ConstructorDispatcher.class, StartHandler.class, StopHandler.class));
+
+        assertThat(injector.resolve(ConstructorDispatcher.class).handlers).containsExactly(injector.resolve(StartHandler.class), injector.resolve(StopHandler.class));
+    }
+
+    @Test
+    void verify() {
+        Injector.getInstance().verify(List.of(Dispatcher.class));
+    }
+
+    @Test
+    void getImplementations() {
+        StartHandler startHandler = new StartHandler();
+        givenDependency(startHandler);
+
+        List<Handler> handlers = Injector.getInstance().getImplementations(Handler.class);
+        assertThat(handlers).containsExactly(startHandler);
+        assertThat(Injector.getInstance().getImplementations(Handler.class)).isSameAs(handlers);
+
+        StopHandler stopHandler = new StopHandler();
+        givenDependency(stopHandler);
+
+        assertThat(Injector.getInstance().getImplementations(Handler.class)).containsExactly(startHandler, stopHandler);
+    }
+
+    @Test
+    void getImplementations_internalBindings() {
+        LoggerProvider loggerProvider = new LoggerProvider();
+        Injector.getInstance().addProvider(loggerProvider, true);
+        Injector.getInstance().addPooled(Formatter.class, 1, () -> new Formatter("foo", "bar"));
+        Injector.getInstance().addRequestScoped(RequestContext.class);
+
+        assertThat(Injector.getInstance().getImplementations()).containsExactly(loggerProvider);
+    }
+
+    @Test
+    void set_equalInstances() {
+        EqualHandler handler1 = new EqualHandler();
+        EqualHandler handler2 = new EqualHandler();
+        Injector.getInstance().addAll(List.of(handler1, handler2));
+
+        Dispatcher dispatcher = new Dispatcher();
+
+        assertThat(dispatcher.uniqueHandlers).hasSize(2);
+        assertThat(dispatcher.uniqueHandlers.contains(handler2)).isTrue();
+        assertThat(dispatcher.uniqueHandlers.contains(new EqualHandler())).isFalse();
+    }
+
+    @Test
+    void getImplementations_reset() {
+        givenDependency(new StartHandler());
+        assertThat(Injector.getInstance().getImplementations(Handler.class)).hasSize(1);
+
+        Injector.getInstance().reset();
+
+        assertThat(Injector.getInstance().getImplementations(Handler.class)).isEmpty();
+    }
+
+    public interface Handler {
+    }
+
+    public static class StartHandler implements Handler {
+    }
+
+    public static class StopHandler implements Handler {
+    }
+
+    public static class EqualHandler implements Handler {
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof EqualHandler;
+        }
+
+        @Override
+        public int hashCode() {
+            return 1;
+        }
+    }
+
+    @Component
+    public static class Dispatcher {
+        @Inject
+        List<Handler> handlers;
+        @Inject
+        Set<Handler> uniqueHandlers;
+        @Inject
+        Map<String, Handler> namedHandlers;
+    }
+
+    @Component
+    public static class LazyDispatcher {
+        @Inject
+        Lazy<List<Handler>> handlers;
+    }
+
+    public static class ConstructorDispatcher {
+        final List<Handler> handlers;
+
+        @Inject
+        public ConstructorDispatcher(List<Handler> handlers) {
+            this.handlers = handlers;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package org.jusecase.inject;
+
+import org.junit.jupiter.api.Test;
+import org.jusecase.inject.classes.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class PooledTest implements ComponentTest {
+
+    @Test
+    void borrowAndRelease() {
+        Injector.getInstance().addPooled(Formatter.class, 2, () -> new Formatter("foo", "bar"));
+        FormatterUser user = new FormatterUser();
+
+        Formatter formatter = user.formatters.borrow();
+        user.formatters.release(formatter);
+
+        assertThat(user.formatters.borrow()).isSameAs(formatter);
+        assertThat(user.format()).isEqualTo("service said: foobar");
+    }
+
+    @Test
+    void releaseTwice() {
+        Injector.getInstance().addPooled(Formatter.class, 2, () -> new Formatter("foo", "bar"));
+        Pooled<Formatter> formatters = new FormatterUser().formatters;
+        Formatter formatter = formatters.borrow();
+        formatters.release(formatter);
+
+        Throwable throwable = catchThrowable(() -> formatters.release(formatter));
+
+        assertThat(throwable).isInstanceOf(InjectorException.class).hasMessageContaining("it has already been released.");
+        assertThat(formatters.borrow()).isSameAs(formatter);
+        assertThat(formatters.borrow()).isNotSameAs(formatter);
+    }
+
+    @Test
+    void sharedByComponents() {
+        Injector.getInstance().addPooled(Formatter.class, 2, () -> new Formatter("foo", "bar"));
+
+        assertThat(new FormatterUser().formatters).isSameAs(new FormatterUser().formatters);
+    }
+
+    @Test
+    void constructedByInjector() {
+        givenDependency("host", "localhost");
+        givenDependency("user", "root");
+        Injector.getInstance().addPooled(DataSource.class, 1);
+
+        DataSource dataSource = ((Pooled<DataSource>) Injector.getInstance().getPools().findFirst().get()).borrow();
+
+        assertThat(dataSource.getHostName()).isEqualTo("localhost");
+    }
+
+    @Test
+    void statistics() {
+        InjectorMetrics metrics = Injector.getInstance().enableMetrics();
+        Injector.getInstance().addPooled(Formatter.class, 1, () -> new Formatter("foo", "bar"));
+        Pooled<Formatter> formatters = new FormatterUser().formatters;
+
+        Formatter formatter1 = formatters.borrow();
+        Formatter formatter2 = formatters.borrow();
+        formatters.release(formatter1);
+        formatters.release(formatter2);
+        formatters.release(formatters.borrow());
+
+        PoolSnapshot pool = metrics.getPools().get(Formatter.class);
+        assertThat(pool.getSize()).isEqualTo(1);
+        assertThat(pool.getIdle()).isEqualTo(1);
+        assertThat(pool.getHits()).isEqualTo(1);
+        assertThat(pool.getMisses()).isEqualTo(2);
+        assertThat(pool.getDiscards()).isEqualTo(1);
+        assertThat(metrics.getPoolHits()).containsEntry(Formatter.class.getName(), 1L);
+        assertThat(metrics.getPoolMisses()).containsEntry(Formatter.class.getName(), 2L);
+
+        metrics.reset();
+
+        assertThat(metrics.getPools().get(Formatter.class).getMisses()).isEqualTo(0);
+    }
+
+    @Test
+    void concurrentBorrowers() throws Exception {
+        Injector.getInstance().addPooled(Buffer.class, 4, Buffer::new);
+        Pooled<Buffer> buffers = new BufferUser().buffers;
+        AtomicInteger conflicts = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; ++t) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; ++i) {
+                        Buffer buffer = buffers.borrow();
+                        if (!buffer.inUse.compareAndSet(false, true)) {
+                            conflicts.incrementAndGet();
+                        }
+                        buffer.inUse.set(false);
+                        buffers.release(buffer);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        PoolSnapshot pool = Injector.getInstance().enableMetrics().getPools().get(Buffer.class);
+        assertThat(conflicts.get()).isEqualTo(0);
+        assertThat(pool.getHits() + pool.getMisses()).isEqualTo(80_000);
+        assertThat(pool.getIdle()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    void notInjectableWithoutHandle() {
+        Injector.getInstance().addPooled(Formatter.class, 1, () -> new Formatter("foo", "bar"));
+
+        Throwable throwable = catchThrowable(() -> Injector.getInstance().resolve(Formatter.class));
+
+        assertThat(throwable).isInstanceOf(InjectorException.class).hasMessage(Formatter.class.getName() + " is pooled, inject Pooled<Formatter> instead.");
+    }
+
+    @Test
+    void notInjectableWithoutHandle_sealed() {
+        Injector.getInstance().addPooled(Formatter.class, 1, () -> new Formatter("foo", "bar"));
+        Injector.getInstance().seal();
+
+        Throwable throwable = catchThrowable(() -> Injector.getInstance().resolve(Formatter.class));
+
+        assertThat(throwable).isInstanceOf(InjectorException.class).hasMessage(Formatter.class.getName() + " is pooled, inject Pooled<Formatter> instead.");
+    }
+
+    @Test
+    void noPool() {
+        givenDependency(new Formatter("foo", "bar"));
+
+        Throwable throwable = catchThrowable(FormatterUser::new);
+
+        assertThat(throwable).isInstanceOf(InjectorException.class).hasMessage("No pool found. Failed to inject " + Pooled.class.getName() + " formatters in " + FormatterUser.class.getName());
+    }
+
+    @Test
+    void invalidSize() {
+        Throwable throwable = catchThrowable(() -> Injector.getInstance().addPooled(Formatter.class, 0));
+
+        assertThat(throwable).isInstanceOf(InjectorException.class).hasMessage("Pool size of " + Formatter.class.getName() + " must be at least 1, got 0.");
+    }
+
+    @Test
+    void verify() {
+        Injector injector = new Injector();
+
+        Throwable throwable = catchThrowable(() -> injector.verify(List.of(FormatterUser.class)));
+
+        assertThat(throwable).isInstanceOf(InjectorException.class).hasMessageContaining("No pool found.");
+    }
+
+    public static class Buffer {
+        final AtomicBoolean inUse = new AtomicBoolean();
+    }
+
+    @Component
+    public static class BufferUser {
+        @javax.inject.Inject
+        Pooled<Buffer> buffers;
+    }
+}
@@ -0,0 +1,115 @@
+package org.jusecase.inject;
+
+import org.junit.jupiter.api.Test;
+import org.jusecase.inject.classes.*;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class QualifierTest implements ComponentTest {
+
+    @Test
+    void qualifiedFields() throws Exception {
+        TestDriver primary = new TestDriver();
+        TestDriverDb1 users = new TestDriverDb1();
+        TestDriverDb2 orders = new TestDriverDb2();
+        Injector.getInstance().addQualified(Primary.class, primary);
+        Injector.getInstance().addQualified(getDatabase("users"), users);
+        Injector.getInstance().addQualified(getDatabase("orders"), orders);
+
+        BeanWithQualifiers bean = new BeanWithQualifiers();
+
+        assertThat(bean.primary).isSameAs(primary);
+        assertThat(bean.users).isSameAs(users);
+        assertThat(bean.orders).isSameAs(orders);
+        assertThat(Injector.getInstance().resolve(Driver.class)).isNull();
+    }
+
+    @Test
+    void qualifiedClass() throws Exception {
+        PrimaryDriver driver = new PrimaryDriver();
+        givenDependency(driver);
+        Injector.getInstance().addQualified(getDatabase("users"), new TestDriver());
+        Injector.getInstance().addQualified(getDatabase("orders"), new TestDriver());
+
+        assertThat(new BeanWithQualifiers().primary).isSameAs(driver);
+        assertThat(Injector.getInstance().resolve(Driver.class)).isNull();
+    }
+
+    @Test
+    void qualifiedConstructorParameters() {
+        PrimaryDriver driver = new PrimaryDriver();
+        givenDependency(driver);
+        givenDependency("host", "localhost");
+
+        Injector.getInstance().add(BeanWithQualifiedConstructor.class);
+
+        BeanWithQualifiedConstructor bean = Injector.getInstance().resolve(BeanWithQualifiedConstructor.class);
+        assertThat(bean.driver).isSameAs(driver);
+        assertThat(bean.host).isEqualTo("localhost");
+    }
+
+    @Test
+    void qualifiedConstructorParameters_missing() {
+        givenDependency("host", "localhost");
+
+        Throwable throwable = catchThrowable(() -> Injector.getInstance().add(BeanWithQualifiedConstructor.class));
+
+        assertThat(throwable).isInstanceOf(InjectorException.class).hasMessageStartingWith("No dependency qualified @org.jusecase.inject.classes.Primary. Failed to inject org.jusecase.inject.classes.Driver");
+    }
+
+    @Test
+    void missing() throws Exception {
+        Injector.getInstance().addQualified(Primary.class, new TestDriver());
+        Injector.getInstance().addQualified(getDatabase("users"), new TestDriver());
+
+        Throwable throwable = catchThrowable(BeanWithQualifiers::new);
+
+        assertThat(throwable).isInstanceOf(InjectorException.class).hasMessageStartingWith("No dependency qualified @org.jusecase.inject.classes.Database(");
+        assertThat(throwable.getMessage()).contains(", got [").endsWith("Failed to inject org.jusecase.inject.classes.Driver orders in org.jusecase.inject.classes.BeanWithQualifiers");
+    }
+
+    @Test
+    void verify() {
+        Throwable throwable = catchThrowable(() -> Injector.getInstance().verify(List.of(BeanWithQualifiers.class)));
+
+        assertThat(throwable).isInstanceOf(InjectorException.class).hasMessageStartingWith("Verification failed for 3 injection points:");
+    }
+
+    @Test
+    void twoQualifiers() {
+        Throwable throwable = catchThrowable(BeanWithTwoQualifiers::new);
+
+        assertThat(throwable).isInstanceOf(InjectorException.class).hasMessage("@Inject field must not have more than one qualifier. Failed to inject org.jusecase.inject.classes.Driver driver in org.jusecase.inject.classes.BeanWithTwoQualifiers");
+    }
+
+    @Test
+    void notAQualifier() {
+        Throwable throwable = catchThrowable(() -> Injector.getInstance().addQualified(Component.class, new TestDriver()));
+
+        assertThat(throwable).isInstanceOf(InjectorException.class).hasMessage("org.jusecase.inject.Component is not annotated with @Qualifier.");
+    }
+
+    @Test
+    void qualifierWithAttributes() {
+        Throwable throwable = catchThrowable(() -> Injector.getInstance().addQualified(Database.class, new TestDriver()));
+
+        assertThat(throwable).isInstanceOf(InjectorException.class).hasMessage("org.jusecase.inject.classes.Database has attributes, use an annotation instance to qualify dependencies.");
+    }
+
+    @Test
+    void qualifierKeyWithAttributes() throws Exception {
+        QualifierKey users = QualifierKey.of(getDatabase("users"));
+
+        assertThat(users).isEqualTo(QualifierKey.of(getDatabase("users")));
+        assertThat(users.hashCode()).isEqualTo(QualifierKey.of(getDatabase("users")).hashCode());
+        assertThat(users).isNotEqualTo(QualifierKey.of(getDatabase("orders")));
+        assertThat(users.toString()).isEqualTo("@" + Database.class.getName() + "(value=users)");
+    }
+
+    private Database getDatabase(String value) throws Exception {
+        return BeanWithQualifiers.class.getField(value).getAnnotation(Database.class);
+    }
+}
@@ -0,0 +1,163 @@
+package org.jusecase.inject;
+
+import org.junit.jupiter.api.Test;
+import org.jusecase.inject.classes.RequestContext;
+import org.jusecase.inject.classes.RequestContextUser;
+
+import javax.inject.Provider;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class RequestScopeTest implements ComponentTest {
+
+    @Test
+    void sameInstanceWithinScope() {
+        Injector.getInstance().add(RequestContext.class);
+
+        Injector.getInstance().runInScope(() -> {
+            RequestContextUser user1 = new RequestContextUser();
+            RequestContextUser user2 = new RequestContextUser();
+
+            assertThat(user1.context).isNotNull();
+            assertThat(user1.context).isSameAs(user2.context);
+            assertThat(Injector.getInstance().resolve(RequestContext.class)).isSameAs(user1.context);
+        });
+    }
+
+    @Test
+    void newInstancePerScope() throws Exception {
+        Injector.getInstance().addRequestScoped(RequestContext.class);
+
+        RequestContext context1 = Injector.getInstance().callInScope(() -> new RequestContextUser().context);
+        RequestContext context2 = Injector.getInstance().callInScope(() -> new RequestContextUser().context);
+
+        assertThat(context1).isNotSameAs(context2);
+    }
+
+    @Test
+    void nestedScope() {
+        Injector.getInstance().addRequestScoped(RequestContext.class);
+        List<RequestContext> contexts = new ArrayList<>();
+
+        Injector.getInstance().runInScope(() -> {
+            contexts.add(new RequestContextUser().context);
+            Injector.getInstance().runInScope(() -> contexts.add(new RequestContextUser().context));
+            contexts.add(new RequestContextUser().context);
+        });
+
+        assertThat(contexts.get(0)).isNotSameAs(contexts.get(1));
+        assertThat(contexts.get(0)).isSameAs(contexts.get(2));
+    }
+
+    @Test
+    void provider() {
+        AtomicInteger calls = new AtomicInteger();
+        Injector.getInstance().addRequestScoped(new RequestContextProvider(calls));
+
+        Injector.getInstance().runInScope(() -> {
+            new RequestContextUser();
+            new RequestContextUser();
+        });
+
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void sealed() {
+        Injector.getInstance().addRequestScoped(RequestContext.class);
+        Injector.getInstance().seal();
+
+        Injector.getInstance().runInScope(() -> assertThat(new RequestContextUser().context).isNotNull());
+    }
+
+    @Test
+    void noScope() {
+        Injector.getInstance().addRequestScoped(RequestContext.class);
+
+        Throwable throwable = catchThrowable(RequestContextUser::new);
+
+        assertThat(throwable).isInstanceOf(InjectorException.class).hasMessage("No request scope active. Failed to resolve request scoped " + RequestContext.class.getName());
+    }
+
+    @Test
+    void bootstrap() throws Exception {
+        Injector.getInstance().bootstrap(List.of(RequestContext.class));
+
+        RequestContext context1 = Injector.getInstance().callInScope(() -> Injector.getInstance().resolve(RequestContext.class));
+        RequestContext context2 = Injector.getInstance().callInScope(() -> Injector.getInstance().resolve(RequestContext.class));
+
+        assertThat(context1).isNotNull();
+        assertThat(context1).isNotSameAs(context2);
+    }
+
+    @Test
+    void slotsAreReclaimedOnReset() {
+        Injector injector = new Injector();
+
+        for (int i = 0; i < 1000; ++i) {
+            injector.reset();
+            injector.addRequestScoped(RequestContext.class);
+        }
+
+        assertThat(injector.snapshot().requestScopedSlots.size()).isEqualTo(1);
+    }
+
+    @Test
+    void baselineAndFork() {
+        InjectorSnapshot baseline = Injector.createSnapshot(i -> i.addRequestScoped(RequestContext.class));
+        Injector fork = new Injector(baseline);
+        fork.addRequestScoped(new BuilderProvider());
+
+        fork.runInScope(() -> {
+            assertThat(fork.resolve(RequestContext.class)).isSameAs(fork.resolve(RequestContext.class));
+            assertThat((Object) fork.resolve(StringBuilder.class)).isSameAs(fork.resolve(StringBuilder.class));
+        });
+    }
+
+    @Test
+    void snapshotDoesNotAllocateSlots() {
+        InjectorSnapshot baseline = Injector.createSnapshot(i -> i.addRequestScoped(RequestContext.class));
+        Injector fork = new Injector(baseline);
+
+        assertThat(fork.snapshot().requestScopedSlots).isSameAs(baseline.requestScopedSlots);
+        assertThat(fork.snapshot().requestScopedSlots.size()).isEqualTo(1);
+    }
+
+    @Test
+    void unrelatedInjectors() {
+        Injector injector1 = new Injector();
+        injector1.addRequestScoped(RequestContext.class);
+        Injector injector2 = new Injector();
+        injector2.addRequestScoped(new BuilderProvider());
+
+        injector1.runInScope(() -> {
+            assertThat(injector1.resolve(RequestContext.class)).isSameAs(injector1.resolve(RequestContext.class));
+            assertThat((Object) injector2.resolve(StringBuilder.class)).isSameAs(injector2.resolve(StringBuilder.class));
+        });
+    }
+
+    private static class BuilderProvider implements Provider<StringBuilder> {
+        @Override
+        public StringBuilder get() {
+            return new StringBuilder();
+        }
+    }
+
+    private static class RequestContextProvider implements Provider<RequestContext> {
+        private final AtomicInteger calls;
+
+        RequestContextProvider(AtomicInteger calls) {
+            this.calls = calls;
+        }
+
+        @Override
+        public RequestContext get() {
+            calls.incrementAndGet();
+            return new RequestContext();
+        }
+    }
+}
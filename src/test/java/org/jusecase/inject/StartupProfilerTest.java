@@ -0,0 +1,186 @@
+package org.jusecase.inject;
+
+import org.junit.jupiter.api.Test;
+import org.jusecase.inject.classes.DataSource;
+import org.jusecase.inject.classes.DataSourceProvider;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StartupProfilerTest implements ComponentTest {
+
+    @Test
+    void disabledByDefault() {
+        assertThat(Injector.getInstance().getStartupProfiler()).isNull();
+    }
+
+    @Test
+    void singleInstanceProvider() {
+        StartupProfiler profiler = Injector.getInstance().enableStartupProfiling();
+        givenDependency("host", "localhost");
+        givenDependency("user", "root");
+        Injector.getInstance().addProviderForSingleInstance(new DataSourceProvider());
+
+        StartupReport report = profiler.getReport();
+
+        String operation = "addProviderForSingleInstance " + DataSourceProvider.class.getName();
+        assertThat(report.getOperation(operation).get().getCount()).isEqualTo(1);
+        assertThat(report.getOperation("add " + String.class.getName()).get().getCount()).isEqualTo(2);
+        assertThat(report.toCollapsedStacks()).contains(operation + ";get " + DataSourceProvider.class.getName() + ";inject " + DataSource.class.getName() + " ");
+        assertThat(report.toString()).startsWith("Startup took ").contains(operation);
+    }
+
+    @Test
+    void transitiveConstruction() {
+        Injector injector = new Injector();
+        StartupProfiler profiler = injector.enableStartupProfiling();
+        injector.add(Pool.class);
+        injector.addProvider(ServiceProvider.class);
+
+        StartupReport report = profiler.getReport();
+
+        assertThat(report.getStacks()).extracting(StartupReport.Entry::getStack).containsExactly(
+                "add " + Pool.class.getName(),
+                "add " + Pool.class.getName() + ";new " + Pool.class.getName(),
+                "addProvider " + ServiceProvider.class.getName(),
+                "addProvider " + ServiceProvider.class.getName() + ";new " + ServiceProvider.class.getName());
+        assertThat(report.toCollapsedStacks()).doesNotContain("addProvider " + ServiceProvider.class.getName() + ";addProvider");
+
+        StartupReport.Entry add = report.getOperation("add " + Pool.class.getName()).get();
+        StartupReport.Entry construction = report.getOperation("new " + Pool.class.getName()).get();
+        assertThat(add.getWallTime()).isGreaterThanOrEqualTo(construction.getWallTime());
+        assertThat(add.getSelfWallTime()).isEqualTo(add.getWallTime().minus(construction.getWallTime()));
+        assertThat(report.getCumulativeWallTime()).isGreaterThanOrEqualTo(add.getWallTime());
+        assertThat(report.getWallTime()).isGreaterThanOrEqualTo(report.getCumulativeWallTime());
+    }
+
+    @Test
+    void allocatedBytes() {
+        Injector injector = new Injector();
+        StartupProfiler profiler = injector.enableStartupProfiling();
+        injector.add(Pool.class);
+
+        StartupReport.Entry construction = profiler.getReport().getOperation("new " + Pool.class.getName()).get();
+
+        if (StartupProfiler.isAllocationProfilingSupported()) {
+            assertThat(construction.getAllocatedBytes()).isGreaterThanOrEqualTo(Pool.SIZE);
+        } else {
+            assertThat(construction.getAllocatedBytes()).isEqualTo(0);
+        }
+    }
+
+    @Test
+    void reportOnBootstrapCompleted() {
+        Injector injector = new Injector();
+        AtomicReference<StartupReport> report = new AtomicReference<>();
+        injector.enableStartupProfiling(report::set);
+
+        injector.bootstrap(List.of(Pool.class, Service.class));
+
+        assertThat(report.get().getOperation("new " + Pool.class.getName())).isPresent();
+        assertThat(report.get().getOperation("new " + Service.class.getName())).isPresent();
+    }
+
+    @Test
+    void wallTimeOfParallelBootstrap() {
+        Injector injector = new Injector();
+        AtomicReference<StartupReport> report = new AtomicReference<>();
+        injector.enableStartupProfiling(report::set);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        long startNanos = System.nanoTime();
+        try {
+            injector.bootstrap(List.of(SlowPool1.class, SlowPool2.class), executor);
+        } finally {
+            executor.shutdown();
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+
+        assertThat(report.get().getWallTime()).isLessThanOrEqualTo(elapsed);
+        assertThat(report.get().getCumulativeWallTime()).isGreaterThanOrEqualTo(Duration.ofMillis(2 * SlowPool.MILLIS));
+        assertThat(report.get().toString()).contains(" cumulative) and allocated ");
+    }
+
+    @Test
+    void detachedAfterReport() {
+        Injector injector = new Injector();
+        List<StartupReport> reports = new ArrayList<>();
+        injector.enableStartupProfiling(reports::add);
+        injector.bootstrap(List.of(Pool.class));
+
+        injector.bootstrap(List.of(Service.class));
+
+        assertThat(injector.getStartupProfiler()).isNull();
+        assertThat(reports).hasSize(1);
+        assertThat(reports.get(0).getOperation("new " + Service.class.getName())).isNotPresent();
+    }
+
+    @Test
+    void notDetachedWithoutListener() {
+        Injector injector = new Injector();
+        StartupProfiler profiler = injector.enableStartupProfiling();
+
+        injector.bootstrap(List.of(Pool.class));
+
+        assertThat(injector.getStartupProfiler()).isSameAs(profiler);
+    }
+
+    @Test
+    void disable() {
+        Injector injector = new Injector();
+        StartupProfiler profiler = injector.enableStartupProfiling();
+        injector.disableStartupProfiling();
+
+        injector.add(Pool.class);
+
+        assertThat(injector.getStartupProfiler()).isNull();
+        assertThat(profiler.getReport().getOperations()).isEmpty();
+    }
+
+    public static class Pool {
+        static final int SIZE = 1024 * 1024;
+        final byte[] buffer = new byte[SIZE];
+    }
+
+    public static abstract class SlowPool {
+        static final int MILLIS = 50;
+
+        SlowPool() throws InterruptedException {
+            Thread.sleep(MILLIS);
+        }
+    }
+
+    public static class SlowPool1 extends SlowPool {
+        public SlowPool1() throws InterruptedException {
+        }
+    }
+
+    public static class SlowPool2 extends SlowPool {
+        public SlowPool2() throws InterruptedException {
+        }
+    }
+
+    public static class Service {
+        final Pool pool;
+
+        @Inject
+        public Service(Pool pool) {
+            this.pool = pool;
+        }
+    }
+
+    public static class ServiceProvider implements Provider<Service> {
+        @Override
+        public Service get() {
+            return new Service(new Pool());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.jusecase.inject;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+class TrainerFields {
+    private static final ClassValue<TrainerField[]> trainerFields = new ClassValue<>() {
+        @Override
+        protected TrainerField[] computeValue(Class<?> testClass) {
+            List<TrainerField> fields = new ArrayList<>();
+            for (Field field : testClass.getDeclaredFields()) {
+                Trainer trainer = field.getAnnotation(Trainer.class);
+                if (trainer != null) {
+                    field.setAccessible(true);
+                    fields.add(new TrainerField(field, trainer.named()));
+                }
+            }
+            return fields.toArray(new TrainerField[0]);
+        }
+    };
+
+    static TrainerField[] of(Class<?> testClass) {
+        return trainerFields.get(testClass);
+    }
+
+    static class TrainerField {
+        final Field field;
+        final String name;
+
+        TrainerField(Field field, String name) {
+            this.field = field;
+            this.name = name;
+        }
+    }
+}
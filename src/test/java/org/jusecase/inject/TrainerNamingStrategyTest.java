@@ -0,0 +1,33 @@
+package org.jusecase.inject;
+
+import org.junit.jupiter.api.Test;
+import org.jusecase.inject.classes.ClockUser;
+import org.jusecase.inject.classes.FakeClock;
+import org.jusecase.inject.classes.GatewayTrainer;
+import org.jusecase.inject.classes.TestService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class TrainerNamingStrategyTest implements ComponentTest {
+    private final TrainerNamingStrategy fakes = type -> type.getPackageName() + ".Fake" + type.getSimpleName();
+
+    @Test
+    void defaultStrategy() {
+        assertThat(new TestService().getGateway()).isInstanceOf(GatewayTrainer.class);
+    }
+
+    @Test
+    void customStrategy() {
+        Throwable throwable = catchThrowable(ClockUser::new);
+        assertThat(throwable).isInstanceOf(InjectorException.class).hasMessage("No trainer found for interface org.jusecase.inject.classes.Clock Failed to inject org.jusecase.inject.classes.Clock clock in org.jusecase.inject.classes.ClockUser");
+
+        Injector.addTrainerNamingStrategy(fakes);
+        try {
+            assertThat(new ClockUser().clock).isInstanceOf(FakeClock.class);
+            assertThat(new TestService().getGateway()).isInstanceOf(GatewayTrainer.class);
+        } finally {
+            Injector.removeTrainerNamingStrategy(fakes);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package org.jusecase.inject;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.jusecase.inject.classes.TestDriver;
+import org.jusecase.inject.classes.TestGateway;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class UnitTestContextTest implements ComponentTest {
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void childThread() throws Exception {
+        TestDriver driver = new TestDriver();
+        givenDependency(driver);
+        AtomicReference<TestGateway> gateway = new AtomicReference<>();
+
+        Thread thread = new Thread(() -> gateway.set(new TestGateway()));
+        thread.start();
+        thread.join();
+
+        assertThat(gateway.get().getDriver()).isSameAs(driver);
+    }
+
+    @Test
+    void pooledThread() throws Exception {
+        Injector injectorOfPooledThread = executor.submit(Injector::getInstance).get();
+
+        assertThat(injectorOfPooledThread).isSameAs(Injector.getInstance());
+    }
+
+    @Test
+    void pooledThread_afterRelease() throws Exception {
+        executor.submit(Injector::getInstance).get();
+        Injector.releaseUnitTestInstance();
+        Injector.enableUnitTestMode();
+
+        Throwable throwable = catchThrowable(() -> executor.submit(Injector::getInstance).get());
+
+        assertThat(throwable).hasCauseInstanceOf(InjectorException.class).hasMessageContaining("No unit test injector is bound to thread");
+        assertThat(executor.submit(Injector.wrap(Injector::getInstance)).get()).isSameAs(Injector.getInstance());
+    }
+
+    @Test
+    void unboundThread() throws Exception {
+        ExecutorService unboundExecutor = Executors.newSingleThreadExecutor();
+        try {
+            Injector.releaseUnitTestInstance();
+            unboundExecutor.submit(() -> {}).get();
+            Injector.enableUnitTestMode();
+
+            Throwable throwable = catchThrowable(() -> unboundExecutor.submit(() -> new TestGateway()).get());
+
+            assertThat(throwable).hasCauseInstanceOf(InjectorException.class);
+            assertThat(unboundExecutor.submit(() -> new TestDriver()).get()).isNotNull();
+        } finally {
+            unboundExecutor.shutdown();
+        }
+    }
+
+    @Test
+    void wrap_callable() throws Exception {
+        TestDriver driver = new TestDriver();
+        givenDependency(driver);
+
+        TestGateway gateway = executor.submit(Injector.wrap(TestGateway::new)).get();
+
+        assertThat(gateway.getDriver()).isSameAs(driver);
+    }
+
+    @Test
+    void wrap_runnable() {
+        TestDriver driver = new TestDriver();
+        givenDependency(driver);
+        AtomicReference<TestGateway> gateway = new AtomicReference<>();
+
+        CompletableFuture.runAsync(Injector.wrap(() -> gateway.set(new TestGateway())), executor).join();
+
+        assertThat(gateway.get().getDriver()).isSameAs(driver);
+    }
+
+    @Test
+    void bootstrap() {
+        TestDriver driver = new TestDriver();
+        givenDependency(driver);
+
+        Injector.getInstance().bootstrap(List.of(TestGateway.class), executor);
+
+        assertThat(Injector.getInstance().resolve(TestGateway.class).getDriver()).isSameAs(driver);
+    }
+}
@@ -0,0 +1,29 @@
+package org.jusecase.inject.classes;
+
+import org.jusecase.inject.GeneratedInjector;
+import org.jusecase.inject.Injector;
+
+// Written by hand, like the inject-processor would generate it
+public final class BeanWithGeneratedConstructorInjection$$Injector implements GeneratedInjector<BeanWithGeneratedConstructorInjection> {
+    public static int newInstanceCount;
+
+    @Override
+    public String[] getFieldNames() {
+        return new String[]{};
+    }
+
+    @Override
+    public void inject(BeanWithGeneratedConstructorInjection instance, Injector injector) {
+    }
+
+    @Override
+    public Class<?>[] getConstructorParameterTypes() {
+        return new Class<?>[]{Driver.class};
+    }
+
+    @Override
+    public BeanWithGeneratedConstructorInjection newInstance(Object[] arguments) {
+        ++newInstanceCount;
+        return new BeanWithGeneratedConstructorInjection((Driver) arguments[0]);
+    }
+}
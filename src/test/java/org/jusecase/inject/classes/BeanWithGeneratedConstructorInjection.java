@@ -0,0 +1,19 @@
+package org.jusecase.inject.classes;
+
+import org.jusecase.inject.Component;
+
+import javax.inject.Inject;
+
+@Component
+public class BeanWithGeneratedConstructorInjection {
+    private final Driver driver;
+
+    @Inject
+    public BeanWithGeneratedConstructorInjection(Driver driver) {
+        this.driver = driver;
+    }
+
+    public Driver getDriver() {
+        return driver;
+    }
+}
@@ -0,0 +1,31 @@
+package org.jusecase.inject.classes;
+
+import org.jusecase.inject.GeneratedInjector;
+import org.jusecase.inject.Injector;
+
+// Written by hand, like the inject-processor would generate it
+public final class BeanWithGeneratedInjector$$Injector implements GeneratedInjector<BeanWithGeneratedInjector> {
+    public static int injectCount;
+
+    @Override
+    public String[] getFieldNames() {
+        return new String[]{"driver", "host"};
+    }
+
+    @Override
+    public void inject(BeanWithGeneratedInjector instance, Injector injector) {
+        ++injectCount;
+        instance.driver = (Driver) injector.resolveGeneratedField(BeanWithGeneratedInjector.class, 0);
+        instance.host = (String) injector.resolveGeneratedField(BeanWithGeneratedInjector.class, 1);
+    }
+
+    @Override
+    public Class<?>[] getConstructorParameterTypes() {
+        return new Class<?>[]{};
+    }
+
+    @Override
+    public BeanWithGeneratedInjector newInstance(Object[] arguments) {
+        return new BeanWithGeneratedInjector();
+    }
+}
@@ -0,0 +1,29 @@
+package org.jusecase.inject.classes;
+
+import org.jusecase.inject.Component;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+@Component
+public class BeanWithGeneratedInjector {
+    @Inject
+    Driver driver;
+    @Inject
+    @Named("host")
+    String host;
+    @Inject
+    private Gateway gateway;
+
+    public Driver getDriver() {
+        return driver;
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public Gateway getGateway() {
+        return gateway;
+    }
+}
@@ -0,0 +1,15 @@
+package org.jusecase.inject.classes;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+public class BeanWithQualifiedConstructor {
+    public final Driver driver;
+    public final String host;
+
+    @Inject
+    public BeanWithQualifiedConstructor(@Primary Driver driver, @Named("host") String host) {
+        this.driver = driver;
+        this.host = host;
+    }
+}
@@ -0,0 +1,20 @@
+package org.jusecase.inject.classes;
+
+import org.jusecase.inject.Component;
+
+import javax.inject.Inject;
+
+@Component
+public class BeanWithQualifiers {
+    @Inject
+    @Primary
+    public Driver primary;
+
+    @Inject
+    @Database("users")
+    public Driver users;
+
+    @Inject
+    @Database("orders")
+    public Driver orders;
+}
@@ -0,0 +1,16 @@
+package org.jusecase.inject.classes;
+
+import org.jusecase.inject.Component;
+
+import javax.inject.Inject;
+
+@Component
+public class BeanWithStaticField {
+
+    @Inject
+    private static Driver driver;
+
+    public static Driver getDriver() {
+        return driver;
+    }
+}
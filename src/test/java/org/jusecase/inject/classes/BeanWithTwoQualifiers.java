@@ -0,0 +1,14 @@
+package org.jusecase.inject.classes;
+
+import org.jusecase.inject.Component;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+@Component
+public class BeanWithTwoQualifiers {
+    @Inject
+    @Primary
+    @Named("db1")
+    public Driver driver;
+}
@@ -0,0 +1,11 @@
+package org.jusecase.inject.classes;
+
+import org.jusecase.inject.Component;
+
+import javax.inject.Inject;
+
+@Component
+public class ClockUser {
+    @Inject
+    public Clock clock;
+}
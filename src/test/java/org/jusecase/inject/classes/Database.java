@@ -0,0 +1,11 @@
+package org.jusecase.inject.classes;
+
+import javax.inject.Qualifier;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+@Qualifier
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Database {
+    String value();
+}
@@ -0,0 +1,4 @@
+package org.jusecase.inject.classes;
+
+public class FakeClock implements Clock {
+}
@@ -0,0 +1,16 @@
+package org.jusecase.inject.classes;
+
+import org.jusecase.inject.Component;
+import org.jusecase.inject.Pooled;
+
+import javax.inject.Inject;
+
+@Component
+public class FormatterUser {
+    @Inject
+    public Pooled<Formatter> formatters;
+
+    public String format() {
+        return formatters.apply(Formatter::getResult);
+    }
+}
@@ -0,0 +1,16 @@
+package org.jusecase.inject.classes;
+
+import org.jusecase.inject.Component;
+import org.jusecase.inject.Lazy;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+@Component
+public class LazyUser {
+    @Inject
+    public Lazy<Driver> driver;
+    @Inject
+    @Named("host")
+    public Lazy<String> host;
+}
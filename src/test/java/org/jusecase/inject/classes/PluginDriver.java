@@ -0,0 +1,14 @@
+package org.jusecase.inject.classes;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+public class PluginDriver implements Driver {
+    @Inject
+    @Named("host")
+    String host;
+
+    public String getHost() {
+        return host;
+    }
+}
@@ -0,0 +1,5 @@
+package org.jusecase.inject.classes;
+
+@Primary
+public class PrimaryDriver implements Driver {
+}
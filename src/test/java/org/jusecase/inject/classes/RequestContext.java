@@ -0,0 +1,7 @@
+package org.jusecase.inject.classes;
+
+import org.jusecase.inject.RequestScoped;
+
+@RequestScoped
+public class RequestContext {
+}
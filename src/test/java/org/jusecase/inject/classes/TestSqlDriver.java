@@ -0,0 +1,4 @@
+package org.jusecase.inject.classes;
+
+public class TestSqlDriver implements SqlDriver {
+}